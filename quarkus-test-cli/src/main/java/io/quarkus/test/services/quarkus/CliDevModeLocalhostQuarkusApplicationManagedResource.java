@@ -6,6 +6,7 @@ import java.io.File;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import io.quarkus.test.bootstrap.Protocol;
 import io.quarkus.test.bootstrap.QuarkusCliClient;
@@ -79,6 +80,11 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     @Override
     public void restart() {
         stop();
@@ -125,6 +131,6 @@ public class CliDevModeLocalhostQuarkusApplicationManagedResource extends Quarku
         return serviceContext.getOwner().getProperty(property)
                 .filter(str -> !str.isEmpty())
                 .map(Integer::parseInt)
-                .orElseGet(SocketUtils::findAvailablePort);
+                .orElseGet(() -> SocketUtils.findAvailablePort(serviceContext.getOwner()));
     }
 }
@@ -1,25 +1,54 @@
 package io.quarkus.test.logging;
 
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.output.OutputFrame;
 
 import io.quarkus.test.bootstrap.Service;
 
+/**
+ * Follows the container output as it's streamed by Docker, so the logs are not downloaded again on every tick.
+ * The handler must be created before the container is started, so the log consumer is attached at startup.
+ */
 public class TestContainersLoggingHandler extends ServiceLoggingHandler {
 
-    private final GenericContainer<?> container;
+    private static final String NEW_LINE = "\n";
 
-    private String oldLogs;
+    private final Queue<String> frames = new ConcurrentLinkedQueue<>();
+    private final StringBuilder incompleteLine = new StringBuilder();
 
     public TestContainersLoggingHandler(Service service, GenericContainer<?> container) {
         super(service);
-        this.container = container;
+        container.withLogConsumer(this::onFrame);
     }
 
     @Override
     protected synchronized void handle() {
-        String newLogs = container.getLogs();
-        onStringDifference(newLogs, oldLogs);
-        oldLogs = newLogs;
+        String frame;
+        while ((frame = frames.poll()) != null) {
+            incompleteLine.append(frame);
+        }
+
+        int end = incompleteLine.lastIndexOf(NEW_LINE) + 1;
+        if (end > 0) {
+            onLines(incompleteLine.substring(0, end));
+            incompleteLine.delete(0, end);
+        }
     }
 
+    @Override
+    protected synchronized void onStopWatching() {
+        handle();
+        onLines(incompleteLine.toString());
+        incompleteLine.setLength(0);
+    }
+
+    private void onFrame(OutputFrame frame) {
+        if (frame.getType() != OutputFrame.OutputType.END) {
+            frames.add(frame.getUtf8String());
+            onLogsChanged();
+        }
+    }
 }
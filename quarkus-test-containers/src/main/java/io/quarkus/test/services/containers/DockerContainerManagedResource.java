@@ -16,6 +16,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testcontainers.containers.BindMode;
@@ -29,6 +30,7 @@ import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
 import io.quarkus.test.logging.TestContainersLoggingHandler;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.services.URILike;
 import io.quarkus.test.utils.DockerUtils;
 import io.quarkus.test.utils.FileUtils;
@@ -115,12 +117,17 @@ public abstract class DockerContainerManagedResource implements ManagedResource
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     protected int getMappedPort(int port) {
         return innerContainer.getMappedPort(port);
     }
 
     private void doStart() {
-        try {
+        try (var phase = PhaseTimings.start(context, "container.start")) {
             innerContainer.start();
         } catch (Exception ex) {
             stop();
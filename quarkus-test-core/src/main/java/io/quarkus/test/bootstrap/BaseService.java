@@ -16,7 +16,9 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -25,10 +27,15 @@ import org.apache.commons.lang3.StringUtils;
 
 import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.PhaseTimings;
+import io.quarkus.test.metrics.StartupMeasurement;
+import io.quarkus.test.metrics.StartupStatistics;
 import io.quarkus.test.services.URILike;
+import io.quarkus.test.utils.BackgroundFolderCleaner;
 import io.quarkus.test.utils.FileUtils;
 import io.quarkus.test.utils.LogsVerifier;
 import io.quarkus.test.utils.PropertiesUtils;
+import io.quarkus.test.utils.SocketUtils;
 import io.quarkus.test.utils.TestExecutionProperties;
 
 public class BaseService<T extends Service> implements Service {
@@ -43,12 +50,15 @@ public class BaseService<T extends Service> implements Service {
     private final List<Action> onPostStartActions = new LinkedList<>();
     private final Map<String, String> staticProperties = new HashMap<>();
     private final List<Runnable> futureProperties = new LinkedList<>();
+    private final List<Service> startupDependencies = new ArrayList<>();
 
     private ManagedResourceBuilder managedResourceBuilder;
     private ManagedResource managedResource;
     private String serviceName;
     private Configuration configuration;
     private boolean autoStart = true;
+    private boolean deferredConfiguration;
+    private boolean explicitStartupDependencies;
 
     public BaseService() {
         // add first
@@ -81,6 +91,7 @@ public class BaseService<T extends Service> implements Service {
     }
 
     public T onPreStart(Action action) {
+        deferredConfiguration = true;
         onPreStartActions.add(action);
         return (T) this;
     }
@@ -100,6 +111,38 @@ public class BaseService<T extends Service> implements Service {
         return (T) this;
     }
 
+    /**
+     * Services that need to be started before this one. Only relevant when the services are launched in parallel. It
+     * replaces the services this one waits for by default, so `dependsOn()` without services means that the suppliers
+     * and pre-start actions of this service don't use any other service.
+     */
+    public T dependsOn(Service... services) {
+        explicitStartupDependencies = true;
+        startupDependencies.addAll(List.of(services));
+        return (T) this;
+    }
+
+    /**
+     * When the dependencies are not explicitly set, a service configured using suppliers or pre-start actions may use any
+     * service declared before, as what they use can't be known, so it waits for all of them. Otherwise, it does not wait
+     * for any service.
+     */
+    @Override
+    public List<Service> getStartupDependencies(List<Service> declaredBefore) {
+        if (explicitStartupDependencies) {
+            return Collections.unmodifiableList(startupDependencies);
+        } else if (deferredConfiguration) {
+            if (!declaredBefore.isEmpty()) {
+                Log.debug(this, "Service %s waits for all the services declared before it, as it's configured using"
+                        + " suppliers or pre-start actions. Use dependsOn(...) to set the services it uses", getName());
+            }
+
+            return declaredBefore;
+        }
+
+        return List.of();
+    }
+
     /**
      * The runtime configuration property to be used if the built artifact is
      * configured to be run.
@@ -123,6 +166,7 @@ public class BaseService<T extends Service> implements Service {
      * NOTE: unlike other {@link this::withProperties}, here we add new properties and keep the old ones
      */
     public T withProperties(Supplier<Map<String, String>> newProperties) {
+        deferredConfiguration = true;
         futureProperties.add(() -> context.getConfigPropertiesWithTestScope().putAll(newProperties.get()));
         return (T) this;
     }
@@ -143,6 +187,7 @@ public class BaseService<T extends Service> implements Service {
      * configured to be run.
      */
     public T withProperty(String key, Supplier<String> value) {
+        deferredConfiguration = true;
         futureProperties.add(() -> context.withTestScopeConfigProperty(key, value.get()));
         return (T) this;
     }
@@ -151,6 +196,7 @@ public class BaseService<T extends Service> implements Service {
      * The runtime configuration property to be configured based on type variable {@code U} from context.
      */
     public <U> T withProperty(String configKey, String contextKey, Function<U, String> configValue) {
+        deferredConfiguration = true;
         futureProperties.add(
                 () -> context.withTestScopeConfigProperty(configKey,
                         configValue.apply(getPropertyFromContext(contextKey))));
@@ -228,6 +274,11 @@ public class BaseService<T extends Service> implements Service {
         return new ArrayList<>(managedResource.logs());
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return managedResource.streamLogs();
+    }
+
     @Override
     public String getProperty(String property, String defaultValue) {
         String value = getProperties().get(property);
@@ -274,10 +325,12 @@ public class BaseService<T extends Service> implements Service {
         }
 
         Log.debug(this, "Starting service (%s)", getDisplayName());
-        onPreStartActions.forEach(a -> a.handle(this));
-        doStart();
-        waitUntilServiceIsStarted();
-        onPostStartActions.forEach(a -> a.handle(this));
+        try (var phase = PhaseTimings.start(context, "service.start")) {
+            onPreStartActions.forEach(a -> a.handle(this));
+            doStart();
+            waitUntilServiceIsStarted();
+            onPostStartActions.forEach(a -> a.handle(this));
+        }
         Log.info(this, "Service started (%s)", getDisplayName());
     }
 
@@ -287,13 +340,18 @@ public class BaseService<T extends Service> implements Service {
     @Override
     public void stop() {
         if (!isRunning()) {
+            // the ports could have been leased by a start that failed
+            SocketUtils.releasePorts(this);
             return;
         }
 
         Log.debug(this, "Stopping service (%s)", getDisplayName());
-        listeners.forEach(ext -> ext.onServiceStopped(context));
-        onPreStopActions.forEach(a -> a.handle(this));
-        managedResource.stop();
+        try (var phase = PhaseTimings.start(context, "service.stop")) {
+            listeners.forEach(ext -> ext.onServiceStopped(context));
+            onPreStopActions.forEach(a -> a.handle(this));
+            managedResource.stop();
+            SocketUtils.releasePorts(this);
+        }
 
         Log.info(this, "Service stopped (%s)", getDisplayName());
     }
@@ -305,9 +363,9 @@ public class BaseService<T extends Service> implements Service {
     public void close() {
         if (!context.getScenarioContext().isDebug()) {
             stop();
-            if (getConfiguration().isTrue(Configuration.Property.DELETE_FOLDER_ON_EXIT)) {
+            if (getConfiguration().isTrue(Configuration.Property.DELETE_FOLDER_ON_EXIT) && !keepProfilingRecordings()) {
                 try {
-                    FileUtils.deletePath(getServiceFolder());
+                    deleteServiceFolder();
                 } catch (Exception ex) {
                     Log.warn(this, "Could not delete service folder. Caused by " + ex.getMessage());
                 }
@@ -315,6 +373,22 @@ public class BaseService<T extends Service> implements Service {
         }
     }
 
+    /**
+     * Profiling recordings are written to the service folder, and they are most useful when the scenario failed.
+     */
+    private boolean keepProfilingRecordings() {
+        return context.getScenarioContext().isFailed()
+                && StringUtils.isNotBlank(getConfiguration().get(Configuration.Property.SERVICE_PROFILING));
+    }
+
+    private void deleteServiceFolder() {
+        if (QuarkusScenarioBootstrap.PARALLEL_SHUTDOWN_ENABLED.getAsBoolean()) {
+            BackgroundFolderCleaner.delete(getServiceFolder());
+        } else {
+            FileUtils.deletePath(getServiceFolder());
+        }
+    }
+
     @Override
     public ServiceContext register(String serviceName, ScenarioContext context) {
         if (TestExecutionProperties.isOpenshiftPlatform() || TestExecutionProperties.isKubernetesPlatform()) {
@@ -345,17 +419,76 @@ public class BaseService<T extends Service> implements Service {
 
     @Override
     public void init(ManagedResourceBuilder managedResourceBuilder) {
-        FileUtils.recreateDirectory(context.getServiceFolder());
-        this.managedResourceBuilder = managedResourceBuilder;
-        this.managedResource = managedResourceBuilder.build(context);
-        this.managedResource.validate();
+        try (var phase = PhaseTimings.start(context, "service.init")) {
+            FileUtils.recreateDirectory(context.getServiceFolder());
+            this.managedResourceBuilder = managedResourceBuilder;
+            this.managedResource = managedResourceBuilder.build(context);
+            this.managedResource.validate();
+        }
         this.onPostStart((service) -> this.managedResource.afterStart());
     }
 
+    @Override
+    public void awaitBuild() {
+        if (managedResourceBuilder != null) {
+            managedResourceBuilder.awaitBuild();
+        }
+    }
+
     public void restart() {
         managedResource.restart();
     }
 
+    /**
+     * @return startup times and footprint of the last launch, only available for the applications run as local
+     *         processes.
+     */
+    public Optional<StartupMeasurement> getStartupMeasurement() {
+        return managedResource == null ? Optional.empty() : managedResource.getStartupMeasurement();
+    }
+
+    /**
+     * Stops the service and starts it from scratch several times, measuring every startup. Fails the test when the
+     * percentiles exceed the thresholds configured by `ts.<service>.startup.threshold.*`. The service is left
+     * running only if it was running before.
+     *
+     * @param times number of cold starts.
+     */
+    public StartupStatistics measureColdStarts(int times) {
+        if (managedResource == null || !managedResource.isStartupMeasured()) {
+            throw new UnsupportedOperationException("Startup measurement is not supported by " + getDisplayName());
+        }
+
+        boolean wasRunning = isRunning();
+        Duration startupTimeout = getConfiguration()
+                .getAsDuration(Configuration.Property.SERVICE_STARTUP_TIMEOUT, SERVICE_STARTUP_TIMEOUT_DEFAULT);
+        List<StartupMeasurement> measurements = new ArrayList<>();
+        context.put(StartupMeasurement.FIRST_RESPONSE_REQUESTED, Boolean.TRUE);
+        try {
+            for (int i = 0; i < times; i++) {
+                stop();
+                start();
+                StartupMeasurement measurement = getStartupMeasurement().orElseThrow();
+                if (!measurement.awaitFirstResponse(startupTimeout)) {
+                    Log.warn(this, "No HTTP response was received in %s", startupTimeout);
+                }
+
+                measurements.add(measurement);
+            }
+        } finally {
+            context.put(StartupMeasurement.FIRST_RESPONSE_REQUESTED, Boolean.FALSE);
+        }
+
+        stop();
+        if (wasRunning) {
+            start();
+        }
+
+        StartupStatistics statistics = new StartupStatistics(measurements);
+        Log.info(this, "Cold starts of %s: %s", getDisplayName(), statistics);
+        return statistics.verifyThresholds(getConfiguration());
+    }
+
     public void restartAndWaitUntilServiceIsStarted() {
         restart();
         waitUntilServiceIsStarted();
@@ -366,6 +499,7 @@ public class BaseService<T extends Service> implements Service {
         return new LogsVerifier(this);
     }
 
+    @Override
     public Path getServiceFolder() {
         return context.getServiceFolder();
     }
@@ -379,7 +513,7 @@ public class BaseService<T extends Service> implements Service {
     }
 
     private void doStart() {
-        try {
+        try (var phase = PhaseTimings.start(context, "service.launch")) {
             managedResource.start();
             listeners.forEach(ext -> ext.onServiceStarted(context));
         } catch (Throwable t) {
@@ -401,13 +535,16 @@ public class BaseService<T extends Service> implements Service {
         if (isThisCliApp(this.context)) {
             return;
         }
-        try {
+        CompletableFuture<Void> readiness = null;
+        try (var phase = PhaseTimings.start(context, "service.readiness")) {
             Duration startupCheckInterval = getConfiguration()
                     .getAsDuration(Configuration.Property.SERVICE_STARTUP_CHECK_POLL_INTERVAL,
                             SERVICE_STARTUP_CHECK_POLL_INTERVAL_DEFAULT);
             Duration startupTimeout = getConfiguration()
                     .getAsDuration(Configuration.Property.SERVICE_STARTUP_TIMEOUT, SERVICE_STARTUP_TIMEOUT_DEFAULT);
-            untilIsTrue(this::isRunningOrFailed, AwaitilitySettings
+            // the readiness of the resource triggers the check earlier, but the resource state is what decides
+            readiness = managedResource.readiness();
+            untilIsTrue(this::isRunningOrFailed, readiness, AwaitilitySettings
                     .using(startupCheckInterval, startupTimeout)
                     .doNotIgnoreExceptions()
                     .withService(this)
@@ -415,6 +552,10 @@ public class BaseService<T extends Service> implements Service {
         } catch (Throwable t) {
             listeners.forEach(ext -> ext.onServiceError(context, t));
             throw t;
+        } finally {
+            if (readiness != null) {
+                readiness.cancel(false);
+            }
         }
     }
 
@@ -2,9 +2,13 @@ package io.quarkus.test.bootstrap;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.condition.OS;
 
+import io.quarkus.test.metrics.StartupMeasurement;
 import io.quarkus.test.services.URILike;
 import io.quarkus.test.utils.Command;
 
@@ -83,6 +87,21 @@ public final class LocalhostManagedResource implements ManagedResource {
         return delegate.isRunning();
     }
 
+    @Override
+    public CompletableFuture<Void> readiness() {
+        return delegate.readiness();
+    }
+
+    @Override
+    public Optional<StartupMeasurement> getStartupMeasurement() {
+        return delegate.getStartupMeasurement();
+    }
+
+    @Override
+    public boolean isStartupMeasured() {
+        return delegate.isStartupMeasured();
+    }
+
     @Override
     public boolean isFailed() {
         return delegate.isFailed();
@@ -93,6 +112,11 @@ public final class LocalhostManagedResource implements ManagedResource {
         return delegate.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return delegate.streamLogs();
+    }
+
     @Override
     public void restart() {
         delegate.restart();
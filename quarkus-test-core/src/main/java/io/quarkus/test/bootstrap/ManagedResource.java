@@ -1,8 +1,13 @@
 package io.quarkus.test.bootstrap;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
+import io.quarkus.test.metrics.StartupMeasurement;
 import io.quarkus.test.services.URILike;
+import io.quarkus.test.utils.ReadinessProbes;
 
 public interface ManagedResource {
 
@@ -33,6 +38,28 @@ public interface ManagedResource {
      */
     boolean isRunning();
 
+    /**
+     * @return a future completed as soon as the resource might be running, so {@link #isRunning()} is checked right
+     *         away instead of at the next poll. It's cancelled once the startup finishes.
+     */
+    default CompletableFuture<Void> readiness() {
+        return ReadinessProbes.never();
+    }
+
+    /**
+     * @return startup times and footprint of the last launch, only available for the resources run as local processes.
+     */
+    default Optional<StartupMeasurement> getStartupMeasurement() {
+        return Optional.empty();
+    }
+
+    /**
+     * @return whether the launches of the resource are measured, see {@link #getStartupMeasurement()}.
+     */
+    default boolean isStartupMeasured() {
+        return false;
+    }
+
     /**
      * @return if the resource has failed.
      */
@@ -45,6 +72,13 @@ public interface ManagedResource {
      */
     List<String> logs();
 
+    /**
+     * @return the logs without materializing a copy of them. The stream must be closed once done.
+     */
+    default Stream<String> streamLogs() {
+        return logs().stream();
+    }
+
     /**
      * Restart of the managed resource.
      */
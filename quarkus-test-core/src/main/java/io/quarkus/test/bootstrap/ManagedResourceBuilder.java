@@ -20,6 +20,13 @@ public interface ManagedResourceBuilder {
 
     }
 
+    /**
+     * (Optional) Wait for the work that {@link #build(ServiceContext)} left running in background, and fail if it failed.
+     */
+    default void awaitBuild() {
+
+    }
+
     /**
      * @return computed property that depends on the managed resource builder implementation.
      */
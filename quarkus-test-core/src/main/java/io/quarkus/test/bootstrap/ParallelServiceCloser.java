@@ -0,0 +1,89 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import io.quarkus.test.utils.DaemonThreadFactory;
+
+/**
+ * Closes services concurrently in the reverse order of their startup dependencies, see
+ * {@link QuarkusScenarioBootstrap}: a service is closed once all the services that depend on it are closed.
+ * Every service is closed even when others fail, and the first failure is rethrown afterwards.
+ */
+final class ParallelServiceCloser {
+
+    private final List<Service> services;
+    private final int maxThreads;
+    private final Map<Service, List<Service>> dependents = new HashMap<>();
+    private final Map<Service, CompletableFuture<Void>> closes = new HashMap<>();
+
+    ParallelServiceCloser(List<Service> services, Map<Service, List<Service>> dependencies, int maxThreads) {
+        this.services = services;
+        this.maxThreads = Math.max(1, Math.min(maxThreads, services.size()));
+        for (Service service : services) {
+            for (Service dependency : dependencies.getOrDefault(service, List.of())) {
+                if (dependency != service && services.contains(dependency)) {
+                    dependents.computeIfAbsent(dependency, d -> new ArrayList<>()).add(service);
+                }
+            }
+        }
+    }
+
+    void close() {
+        ExecutorService executor = Executors.newFixedThreadPool(maxThreads, new DaemonThreadFactory("service-closer"));
+        try {
+            // dependents are always declared after their dependencies unless explicitly set, so a service is usually
+            // scheduled after its dependents, and the recursion only happens for the explicit dependencies
+            List<Service> reversed = new ArrayList<>(services);
+            Collections.reverse(reversed);
+            reversed.forEach(service -> closeAfterDependents(service, executor));
+            CompletableFuture.allOf(closes.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ex) {
+            throw ParallelServiceLauncher.rethrow(firstFailure());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Void> closeAfterDependents(Service service, ExecutorService executor) {
+        CompletableFuture<Void> close = closes.get(service);
+        if (close != null) {
+            return close;
+        }
+
+        // mark as visited, so circular dependencies do not lead to an endless recursion
+        closes.put(service, CompletableFuture.completedFuture(null));
+        CompletableFuture<?>[] previous = dependents.getOrDefault(service, List.of()).stream()
+                .map(dependent -> closeAfterDependents(dependent, executor)
+                        // close the service even when the dependent could not be closed
+                        .exceptionally(t -> null))
+                .toArray(CompletableFuture[]::new);
+        close = CompletableFuture.allOf(previous).thenRunAsync(service::close, executor);
+        closes.put(service, close);
+        return close;
+    }
+
+    private Throwable firstFailure() {
+        Throwable first = null;
+        for (Service service : services) {
+            CompletableFuture<Void> close = closes.get(service);
+            if (close.isCompletedExceptionally()) {
+                Throwable failure = close.handle((r, t) -> t instanceof CompletionException ? t.getCause() : t).join();
+                if (first == null) {
+                    first = failure;
+                } else if (first != failure) {
+                    first.addSuppressed(failure);
+                }
+            }
+        }
+
+        return first;
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.DaemonThreadFactory;
+
+/**
+ * Launches services concurrently. Each service is launched once all the services it depends on are launched, see
+ * {@link QuarkusScenarioBootstrap}. When a service fails, no other service is launched, the already launched ones are
+ * stopped and the failure is rethrown.
+ */
+final class ParallelServiceLauncher {
+
+    private final List<Service> services;
+    private final Map<Service, List<Service>> dependencies;
+    private final Consumer<Service> launcher;
+    private final int maxThreads;
+    private final Map<Service, CompletableFuture<Void>> launches = new HashMap<>();
+    private final List<Service> launched = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    ParallelServiceLauncher(List<Service> services, Map<Service, List<Service>> dependencies, Consumer<Service> launcher,
+            int maxThreads) {
+        this.services = services;
+        this.dependencies = dependencies;
+        this.launcher = launcher;
+        this.maxThreads = Math.max(1, Math.min(maxThreads, services.size()));
+    }
+
+    void launch() {
+        ExecutorService executor = Executors.newFixedThreadPool(maxThreads, new DaemonThreadFactory("service-launcher"));
+        try {
+            services.forEach(service -> launchAfterDependencies(service, new LinkedHashSet<>(), executor));
+            CompletableFuture.allOf(launches.values().toArray(new CompletableFuture[0])).join();
+        } catch (RuntimeException ex) {
+            // for example, when there is a circular dependency
+            failed.set(true);
+            stopLaunchedServices();
+            throw ex instanceof CompletionException ? rethrow(ex.getCause()) : ex;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CompletableFuture<Void> launchAfterDependencies(Service service, Set<Service> path,
+            ExecutorService executor) {
+        CompletableFuture<Void> launch = launches.get(service);
+        if (launch != null) {
+            return launch;
+        }
+
+        if (!path.add(service)) {
+            throw new IllegalStateException("Circular dependency between services: " + path.stream()
+                    .map(Service::getName)
+                    .collect(Collectors.joining(" -> ")) + " -> " + service.getName());
+        }
+
+        CompletableFuture<?>[] previous = dependencies.getOrDefault(service, List.of()).stream()
+                .filter(dependency -> dependency != service && services.contains(dependency))
+                .map(dependency -> launchAfterDependencies(dependency, path, executor))
+                .toArray(CompletableFuture[]::new);
+        path.remove(service);
+
+        launch = CompletableFuture.allOf(previous).thenRunAsync(() -> launchIfNoFailure(service), executor);
+        launches.put(service, launch);
+        return launch;
+    }
+
+    private void launchIfNoFailure(Service service) {
+        if (failed.get()) {
+            // fail fast, another service has already failed
+            return;
+        }
+
+        try {
+            launcher.accept(service);
+            launched.add(service);
+        } catch (Throwable t) {
+            failed.set(true);
+            throw t;
+        }
+    }
+
+    private void stopLaunchedServices() {
+        // wait until the services that are being launched finish, so they can be stopped too
+        launches.values().forEach(launch -> launch.exceptionally(t -> null).join());
+        List<Service> toStop = new ArrayList<>(launched);
+        Collections.reverse(toStop);
+        for (Service service : toStop) {
+            try {
+                service.stop();
+            } catch (Exception ex) {
+                Log.warn(service, "Could not stop service after another service failed. Caused by " + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the failure of a service to be thrown as is, wrapped when it's a checked exception. Errors are thrown.
+     */
+    static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        } else if (throwable instanceof Error error) {
+            throw error;
+        }
+
+        return new RuntimeException(throwable);
+    }
+}
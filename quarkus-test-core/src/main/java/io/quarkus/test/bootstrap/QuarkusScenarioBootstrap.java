@@ -1,6 +1,10 @@
 package io.quarkus.test.bootstrap;
 
 import static io.quarkus.test.configuration.Configuration.Property.ATTACH_TO_PROCESS;
+import static io.quarkus.test.configuration.Configuration.Property.PARALLEL_SHUTDOWN;
+import static io.quarkus.test.configuration.Configuration.Property.PARALLEL_SHUTDOWN_MAX_THREADS;
+import static io.quarkus.test.configuration.Configuration.Property.PARALLEL_STARTUP;
+import static io.quarkus.test.configuration.Configuration.Property.PARALLEL_STARTUP_MAX_THREADS;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Field;
@@ -29,6 +33,7 @@ import org.junit.jupiter.api.extension.TestWatcher;
 import io.quarkus.test.bootstrap.TestContext.TestContextImpl;
 import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.services.DevModeQuarkusApplication;
 import io.quarkus.test.services.QuarkusApplication;
 import io.quarkus.test.services.quarkus.ProdQuarkusApplicationManagedResourceBuilder;
@@ -39,14 +44,29 @@ public class QuarkusScenarioBootstrap
         implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback,
         ParameterResolver, LifecycleMethodExecutionExceptionHandler, TestWatcher {
 
+    /**
+     * Global only, as the services are closed by the scenario. The service folders are then deleted in background.
+     */
+    static final PropertyLookup PARALLEL_SHUTDOWN_ENABLED = new PropertyLookup(PARALLEL_SHUTDOWN.getName(),
+            Boolean.FALSE.toString());
+
     private static final PropertyLookup CREATE_SERVICE_BY_DEFAULT = new PropertyLookup("generated-service.enabled",
             Boolean.TRUE.toString());
+    private static final PropertyLookup PARALLEL_STARTUP_ENABLED = new PropertyLookup(PARALLEL_STARTUP.getName(),
+            Boolean.FALSE.toString());
+    private static final PropertyLookup PARALLEL_STARTUP_THREADS = new PropertyLookup(PARALLEL_STARTUP_MAX_THREADS.getName(),
+            String.valueOf(Runtime.getRuntime().availableProcessors()));
+    private static final PropertyLookup PARALLEL_SHUTDOWN_THREADS = new PropertyLookup(
+            PARALLEL_SHUTDOWN_MAX_THREADS.getName(), String.valueOf(Runtime.getRuntime().availableProcessors()));
     private static final String DEFAULT_SERVICE_NAME = "app";
 
     private final ServiceLoader<AnnotationBinding> bindingsRegistry = ServiceLoader.load(AnnotationBinding.class);
     private final ServiceLoader<ExtensionBootstrap> extensionsRegistry = ServiceLoader.load(ExtensionBootstrap.class);
 
     private final List<Service> services = new ArrayList<>();
+    // used to find the startup dependencies when the services are launched in parallel
+    private final Map<Service, Class<?>> serviceDeclaringClasses = new HashMap<>();
+    private final List<Field> lookupFields = new ArrayList<>();
     private ScenarioContext scenario;
     private List<ExtensionBootstrap> extensions;
 
@@ -82,7 +102,16 @@ public class QuarkusScenarioBootstrap
         injectedAppNameToField.forEach((name, field) -> injectService(field, name, services));
 
         // Launch services
-        services.forEach(this::launchService);
+        try (var phase = PhaseTimings.start(scenario, "scenario.launch-services")) {
+            if (PARALLEL_STARTUP_ENABLED.getAsBoolean() && services.size() > 1) {
+                new ParallelServiceLauncher(services, startupDependencies(), this::launchService,
+                        PARALLEL_STARTUP_THREADS.getAsInteger()).launch();
+            } else {
+                services.forEach(this::launchService);
+            }
+
+            awaitBuilds();
+        }
     }
 
     @Override
@@ -91,13 +120,25 @@ public class QuarkusScenarioBootstrap
     }
 
     public void afterAll() {
+        var phase = PhaseTimings.start(scenario, "scenario.close-services");
         try {
-            List<Service> servicesToFinish = new ArrayList<>(services);
-            Collections.reverse(servicesToFinish);
-            servicesToFinish.forEach(Service::close);
+            if (PARALLEL_SHUTDOWN_ENABLED.getAsBoolean() && services.size() > 1) {
+                new ParallelServiceCloser(services, startupDependencies(), PARALLEL_SHUTDOWN_THREADS.getAsInteger()).close();
+            } else {
+                List<Service> servicesToFinish = new ArrayList<>(services);
+                Collections.reverse(servicesToFinish);
+                servicesToFinish.forEach(Service::close);
+            }
+
             deleteLogIfScenarioPassed();
         } finally {
-            extensions.forEach(ext -> ext.afterAll(scenario));
+            try {
+                scenario.getClients().close();
+                extensions.forEach(ext -> ext.afterAll(scenario));
+            } finally {
+                phase.close();
+                PhaseTimings.writeReport();
+            }
         }
     }
 
@@ -172,6 +213,18 @@ public class QuarkusScenarioBootstrap
         scenarioOnError(throwable);
     }
 
+    /**
+     * The builds of the services that were not launched, or that are built in background, fail the scenario here.
+     */
+    private void awaitBuilds() {
+        try {
+            services.forEach(Service::awaitBuild);
+        } catch (Throwable throwable) {
+            scenarioOnError(throwable);
+            throw throwable;
+        }
+    }
+
     private void launchService(Service service) {
         if (!service.isAutoStart()) {
             Log.debug(service, "Service (%s) auto start is off", service.getDisplayName());
@@ -179,7 +232,11 @@ public class QuarkusScenarioBootstrap
         }
 
         Log.info(service, "Initialize service (%s)", service.getDisplayName());
-        extensions.forEach(ext -> ext.onServiceLaunch(scenario, service));
+        // the extensions are notified one service at a time, also when the services are launched in parallel
+        synchronized (extensions) {
+            extensions.forEach(ext -> ext.onServiceLaunch(scenario, service));
+        }
+
         try {
             service.start();
         } catch (RuntimeException runtimeException) {
@@ -204,7 +261,9 @@ public class QuarkusScenarioBootstrap
         // mark scenario as failed
         scenario.markScenarioAsFailed();
         // notify extensions
-        extensions.forEach(ext -> ext.onError(scenario, throwable));
+        synchronized (extensions) {
+            extensions.forEach(ext -> ext.onError(scenario, throwable));
+        }
     }
 
     private void initResourceFromField(TestContext context, Field field, Map<String, Field> injectedAppNameToField) {
@@ -246,6 +305,7 @@ public class QuarkusScenarioBootstrap
         extensions.forEach(ext -> ext.updateServiceContext(serviceContext));
         service.init(resource);
         services.add(service);
+        serviceDeclaringClasses.put(service, field.getDeclaringClass());
         return service;
     }
 
@@ -273,6 +333,7 @@ public class QuarkusScenarioBootstrap
         }
 
         Field injectedField = fieldService.get();
+        lookupFields.add(fieldToInject);
         if (injectedField.isAnnotationPresent(QuarkusApplication.class)
                 || injectedField.isAnnotationPresent(DevModeQuarkusApplication.class)) {
             // postpone Quarkus application injection until (possible) containers are started
@@ -284,6 +345,32 @@ public class QuarkusScenarioBootstrap
         }
     }
 
+    /**
+     * The startup dependencies are the ones of {@link Service#getStartupDependencies(List)}. Besides, the services of a
+     * class declaring a {@link LookupService} field depend on the service injected into it, when this service is launched
+     * before them in the sequential startup, as the class is expected to use it.
+     */
+    private Map<Service, List<Service>> startupDependencies() {
+        Map<Service, List<Service>> dependencies = new HashMap<>();
+        for (int index = 0; index < services.size(); index++) {
+            Service service = services.get(index);
+            List<Service> declaredBefore = services.subList(0, index);
+            List<Service> serviceDependencies = new ArrayList<>(service.getStartupDependencies(declaredBefore));
+            for (Field lookupField : lookupFields) {
+                declaredBefore.stream()
+                        .filter(lookedUp -> lookedUp.getName().equals(lookupField.getName()))
+                        .filter(lookedUp -> lookupField.getDeclaringClass().equals(serviceDeclaringClasses.get(service)))
+                        .filter(lookedUp -> !serviceDependencies.contains(lookedUp))
+                        .findFirst()
+                        .ifPresent(serviceDependencies::add);
+            }
+
+            dependencies.put(service, serviceDependencies);
+        }
+
+        return dependencies;
+    }
+
     private static void injectService(Field injectionPoint, String serviceName, List<Service> services) {
         Service service = services.stream().filter(s -> serviceName.equals(s.getName())).findFirst().orElseThrow();
         ReflectionUtils.setStaticFieldValue(injectionPoint, service);
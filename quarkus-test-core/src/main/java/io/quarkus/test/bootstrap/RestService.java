@@ -5,8 +5,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
+import io.quarkus.test.security.certificate.Certificate;
 import io.quarkus.test.security.certificate.CertificateBuilder;
 import io.quarkus.test.security.certificate.PemClientCertificate;
 import io.quarkus.test.services.URILike;
@@ -18,7 +22,6 @@ import io.vertx.core.net.KeyStoreOptions;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.ext.web.client.WebClientOptions;
-import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.ext.web.client.WebClient;
 
 public class RestService extends BaseService<RestService> {
@@ -27,7 +30,6 @@ public class RestService extends BaseService<RestService> {
     private static final String BASE_PATH = "/";
 
     private final boolean setupRestAssured;
-    private WebClient webClient;
 
     public RestService() {
         this(true);
@@ -79,15 +81,15 @@ public class RestService extends BaseService<RestService> {
         return mutiny(new WebClientOptions());
     }
 
+    /**
+     * Returns {@link WebClient} using the Vert.x instance shared by the scenario. Clients are cached per scenario by
+     * their options, and closed once the scenario finishes. A client closed by the caller is created again by the next
+     * call.
+     */
     public WebClient mutiny(WebClientOptions options) {
-        if (webClient == null) {
-            var uri = getURI(Protocol.HTTP);
-            webClient = WebClient.create(Vertx.vertx(), options
-                    .setDefaultHost(uri.getHost())
-                    .setDefaultPort(uri.getPort()));
-        }
-
-        return webClient;
+        var uri = getURI(Protocol.HTTP);
+        options.setDefaultHost(uri.getHost()).setDefaultPort(uri.getPort());
+        return sharedWebClient(List.of(WebClient.class, options.toJson().encode()), () -> options);
     }
 
     /**
@@ -108,8 +110,8 @@ public class RestService extends BaseService<RestService> {
      * Returns {@link WebClient} configured from {@link CertificateBuilder}.
      * The SSL configuration is done on best effort basis and should only work for JKS and PKCS12 formats.
      * When specific configuration is required, manual client configuration is better option.
-     * This HTTPS version of {@link WebClient} is not cached, however it is automatically closed for you.
-     * If you need to reuse a client with same configuration within one test class, just keep it in a test class var.
+     * This HTTPS version of {@link WebClient} is cached per scenario by the target, the certificate files and the
+     * parameters, and it is automatically closed for you once the scenario finishes.
      * Default port and host are always preconfigured for you.
      * If management interface SSL is enabled, the defaults are configured to the management interface.
      * You can always declare your own host and port during the request.
@@ -120,20 +122,45 @@ public class RestService extends BaseService<RestService> {
             throw new IllegalArgumentException("Exactly one certificate must exist for the SSL configuration to work");
         }
 
-        var options = new WebClientOptions();
-        options.setVerifyHost(verifyHost);
-        options.setSsl(true);
-
         final URILike uri;
         if (TestExecutionProperties.useManagementSsl(this)) {
             uri = getURI(Protocol.MANAGEMENT);
         } else {
             uri = getURI(Protocol.HTTPS);
         }
-        options.setDefaultHost(uri.getHost());
-        options.setDefaultPort(uri.getPort());
 
         var certificate = certificateBuilder.certificates().get(0);
+        var key = Arrays.asList(WebClient.class, uri.toString(), ScenarioClients.certificateKey(certificate), verifyHost,
+                clientCertificateCn, withTruststore);
+        return sharedWebClient(key,
+                () -> createHttpsOptions(uri, certificate, verifyHost, clientCertificateCn, withTruststore));
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        var host = getURI(Protocol.HTTP);
+        if (setupRestAssured) {
+            RestAssured.baseURI = host.getRestAssuredStyleUri();
+            RestAssured.basePath = BASE_PATH;
+            RestAssured.port = host.getPort();
+        }
+    }
+
+    private WebClient sharedWebClient(Object key, Supplier<WebClientOptions> options) {
+        ScenarioClients clients = context.getScenarioContext().getClients();
+        return clients.getOrCreate(key,
+                () -> new SharedWebClient(WebClient.create(clients.vertx(), options.get()), clients, key),
+                SharedWebClient::closeDelegate);
+    }
+
+    private static WebClientOptions createHttpsOptions(URILike uri, Certificate certificate, boolean verifyHost,
+            String clientCertificateCn, boolean withTruststore) {
+        var options = new WebClientOptions();
+        options.setVerifyHost(verifyHost);
+        options.setSsl(true);
+        options.setDefaultHost(uri.getHost());
+        options.setDefaultPort(uri.getPort());
 
         boolean isPemCertificate = certificate.isPemCertificate();
         if (isPemCertificate && clientCertificateCn != null) {
@@ -173,24 +200,7 @@ public class RestService extends BaseService<RestService> {
             }
         }
 
-        var vertx = Vertx.vertx();
-        var webClient = WebClient.create(vertx, options);
-        onPreStop(service -> {
-            webClient.close();
-            vertx.close().await().indefinitely();
-        });
-        return webClient;
-    }
-
-    @Override
-    public void start() {
-        super.start();
-        var host = getURI(Protocol.HTTP);
-        if (setupRestAssured) {
-            RestAssured.baseURI = host.getRestAssuredStyleUri();
-            RestAssured.basePath = BASE_PATH;
-            RestAssured.port = host.getPort();
-        }
+        return options;
     }
 
     private static byte[] getFileContent(String path) {
@@ -213,4 +223,27 @@ public class RestService extends BaseService<RestService> {
         return out.toByteArray();
     }
 
+    /**
+     * Forgets the cached client when the caller closes it, so the next call creates a new one.
+     */
+    private static final class SharedWebClient extends WebClient {
+
+        private final ScenarioClients clients;
+        private final Object key;
+
+        private SharedWebClient(WebClient client, ScenarioClients clients, Object key) {
+            super(client.getDelegate());
+            this.clients = clients;
+            this.key = key;
+        }
+
+        @Override
+        public void close() {
+            clients.invalidate(key, this);
+        }
+
+        private void closeDelegate() {
+            getDelegate().close();
+        }
+    }
 }
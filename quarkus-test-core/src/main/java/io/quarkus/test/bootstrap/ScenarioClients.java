@@ -0,0 +1,139 @@
+package io.quarkus.test.bootstrap;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.security.certificate.Certificate;
+import io.quarkus.test.security.certificate.ClientCertificate;
+import io.quarkus.test.security.certificate.PemClientCertificate;
+import io.vertx.mutiny.core.Vertx;
+
+/**
+ * Clients shared by the services of a scenario, so the helpers that create them (for example,
+ * {@link RestService#mutinyHttps()}) reuse the event loops, connections and TLS setup instead of creating new ones on
+ * every call. The clients are closed once the scenario finishes, and the Vert.x instance is closed after them.
+ */
+public final class ScenarioClients {
+
+    private final Map<Object, Client<?>> clients = new LinkedHashMap<>();
+    private Vertx vertx;
+
+    ScenarioClients() {
+
+    }
+
+    /**
+     * @return the Vert.x instance shared by the clients of the scenario.
+     */
+    public synchronized Vertx vertx() {
+        if (vertx == null) {
+            vertx = Vertx.vertx();
+        }
+
+        return vertx;
+    }
+
+    /**
+     * @param key identifies the client, it must include everything the client is configured with (target, TLS...).
+     * @param factory creates the client when there is no client for the key.
+     * @param closer closes the client once the scenario finishes.
+     * @return the client cached for the key.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T getOrCreate(Object key, Supplier<T> factory, Consumer<T> closer) {
+        Client<?> client = clients.get(key);
+        if (client == null) {
+            client = new Client<>(factory.get(), closer);
+            clients.put(key, client);
+        }
+
+        return (T) client.instance;
+    }
+
+    /**
+     * Closes and forgets the client of the key, for example, when it was shut down by a test.
+     */
+    public synchronized void invalidate(Object key) {
+        Client<?> client = clients.remove(key);
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Closes and forgets the client of the key, only if it's still the given instance.
+     */
+    public synchronized void invalidate(Object key, Object instance) {
+        Client<?> client = clients.get(key);
+        if (client != null && client.instance == instance) {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * @return identifies the files of the certificate and of its client certificates, and when they were written, so
+     *         the clients configured with a certificate are not reused once the certificate is regenerated.
+     */
+    public static List<Object> certificateKey(Certificate certificate) {
+        List<String> paths = new ArrayList<>();
+        paths.add(certificate.keystorePath());
+        paths.add(certificate.truststorePath());
+        if (certificate instanceof Certificate.PemCertificate pemCertificate) {
+            paths.add(pemCertificate.keyPath());
+            paths.add(pemCertificate.certPath());
+        }
+
+        for (ClientCertificate clientCertificate : certificate.clientCertificates()) {
+            paths.add(clientCertificate.keystorePath());
+            paths.add(clientCertificate.truststorePath());
+            if (clientCertificate instanceof PemClientCertificate pemClientCertificate) {
+                paths.add(pemClientCertificate.keyPath());
+                paths.add(pemClientCertificate.certPath());
+            }
+        }
+
+        List<Object> key = new ArrayList<>();
+        for (String path : paths) {
+            if (path != null) {
+                key.add(path);
+                key.add(new File(path).lastModified());
+            }
+        }
+
+        return key;
+    }
+
+    synchronized void close() {
+        List<Client<?>> toClose = new ArrayList<>(clients.values());
+        Collections.reverse(toClose);
+        clients.clear();
+        toClose.forEach(Client::close);
+        if (vertx != null) {
+            try {
+                vertx.close().await().indefinitely();
+            } catch (Exception e) {
+                Log.warn("Error closing the Vert.x instance of the scenario. Caused by " + e.getMessage());
+            }
+
+            vertx = null;
+        }
+    }
+
+    private record Client<T>(T instance, Consumer<T> closer) {
+
+        void close() {
+            try {
+                closer.accept(instance);
+            } catch (Exception e) {
+                Log.warn("Error closing client %s. Caused by %s", instance, e.getMessage());
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ public final class ScenarioContext {
     private static final int SCENARIO_ID_MAX_SIZE = 60;
 
     private final String id;
+    private final ScenarioClients clients = new ScenarioClients();
     private TestContext testContext;
     private boolean failed;
     private boolean debug;
@@ -69,6 +70,13 @@ public final class ScenarioContext {
         this.testContext = new TestContextImpl(methodTestContext, testMethodName);
     }
 
+    /**
+     * @return the clients shared by the services of the scenario.
+     */
+    public ScenarioClients getClients() {
+        return clients;
+    }
+
     public Path getLogFolder() {
         return Paths.get(LOG_FILE_OUTPUT.get());
     }
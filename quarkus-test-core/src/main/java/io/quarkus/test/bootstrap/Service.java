@@ -1,9 +1,11 @@
 package io.quarkus.test.bootstrap;
 
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.utils.LogsVerifier;
@@ -28,6 +30,18 @@ public interface Service extends AutoCloseable {
 
     List<String> getLogs();
 
+    /**
+     * @return the logs without materializing a copy of them. The stream must be closed once done.
+     */
+    default Stream<String> streamLogs() {
+        return getLogs().stream();
+    }
+
+    /**
+     * @return the folder where the service keeps its files, recreated when the service is initialized.
+     */
+    Path getServiceFolder();
+
     ServiceContext register(String serviceName, ScenarioContext context);
 
     void init(ManagedResourceBuilder resource);
@@ -52,4 +66,20 @@ public interface Service extends AutoCloseable {
     default void validate(Field field) {
 
     }
+
+    /**
+     * Waits for the work left running in background when the service was initialized, like the build of its artifact.
+     */
+    default void awaitBuild() {
+
+    }
+
+    /**
+     * Services this service needs to be started before it can be started, used when the services are launched in parallel.
+     *
+     * @param declaredBefore services declared in the scenario before this one.
+     */
+    default List<Service> getStartupDependencies(List<Service> declaredBefore) {
+        return declaredBefore;
+    }
 }
@@ -0,0 +1,177 @@
+package io.quarkus.test.bootstrap.inject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+
+/**
+ * The operations shared by the Kubernetes and the OpenShift clients when they use the API instead of running
+ * `kubectl` or `oc`, see `ts.global.kubernetes.native-api.enabled` and `ts.global.openshift.native-api.enabled`.
+ * Resources are applied server-side in the same connection and deleted by label selector.
+ *
+ * @param <C> the fabric8 client.
+ */
+public abstract class BaseKubernetesApiOperations<C extends KubernetesClient> {
+
+    static final String FIELD_MANAGER = "quarkus-test-framework";
+
+    protected final C client;
+    protected final String namespace;
+
+    protected BaseKubernetesApiOperations(C client, String namespace) {
+        this.client = client;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Same as `logs -f`, done through the API whatever the client uses: the new output of the container is written as
+     * it arrives.
+     *
+     * @param since the time from which the log is followed, or null to follow it from the beginning.
+     */
+    static LogWatch watchLog(KubernetesClient client, String podName, String containerName, Instant since,
+            OutputStream output) {
+        var container = client.pods().withName(podName).inContainer(containerName);
+        if (since == null) {
+            return container.watchLog(output);
+        }
+
+        return container.sinceTime(since.toString()).watchLog(output);
+    }
+
+    /**
+     * Same as `apply -f`, but using server-side apply. Conflicts are forced, so the fields previously set by the CLI
+     * are taken over.
+     */
+    void apply(Path file, String targetNamespace) throws IOException {
+        for (HasMetadata resource : load(file)) {
+            client.resource(resource).inNamespace(targetNamespace).fieldManager(FIELD_MANAGER).forceConflicts()
+                    .serverSideApply();
+        }
+    }
+
+    /**
+     * Same as `delete -f`.
+     */
+    void delete(Path file, String targetNamespace) throws IOException {
+        client.resourceList(load(file)).inNamespace(targetNamespace).delete();
+    }
+
+    /**
+     * Same as `expose deployment`: the service selects the pods of the deployment.
+     *
+     * @param type the type of the service, or null for the default one.
+     * @param labels the labels of the service, or null to use the labels of the deployment.
+     */
+    void exposeDeployment(String deploymentName, String serviceName, int port, String type, Map<String, String> labels) {
+        Deployment deployment = client.apps().deployments().inNamespace(namespace).withName(deploymentName).get();
+        if (deployment == null) {
+            throw new IllegalStateException("Deployment " + deploymentName + " not found");
+        }
+
+        client.services().inNamespace(namespace).resource(new ServiceBuilder()
+                .withNewMetadata()
+                .withName(serviceName)
+                .withLabels(labels != null ? labels : deployment.getMetadata().getLabels())
+                .endMetadata()
+                .withNewSpec()
+                .withType(type)
+                .withSelector(deployment.getSpec().getSelector().getMatchLabels())
+                .addNewPort().withProtocol("TCP").withPort(port).withTargetPort(new IntOrString(port)).endPort()
+                .endSpec()
+                .build()).create();
+    }
+
+    /**
+     * Same as `scale deployment`, it does not wait for the replicas.
+     */
+    void scale(String deploymentName, int replicas) {
+        client.apps().deployments().inNamespace(namespace).withName(deploymentName).scale(replicas);
+    }
+
+    /**
+     * Same as `create secret generic --from-file`: one key per file, named after the file.
+     */
+    void createSecretFromFile(String name, Path path) throws IOException {
+        Map<String, String> data = new HashMap<>();
+        List<Path> files;
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> children = Files.list(path)) {
+                files = children.filter(Files::isRegularFile).toList();
+            }
+        } else {
+            files = List.of(path);
+        }
+
+        for (Path file : files) {
+            data.put(file.getFileName().toString(), Base64.getEncoder().encodeToString(Files.readAllBytes(file)));
+        }
+
+        createSecret(name, data);
+    }
+
+    /**
+     * Same as `create secret generic --from-literal`.
+     */
+    void createSecretFromLiteral(String name, String key, String value) {
+        createSecret(name, Map.of(key, Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * Same as `delete all -l`: deletes the resources of the `all` category with the label, one request per resource
+     * type.
+     */
+    void deleteAllWithLabel(String label, String value) {
+        allResourceTypes().forEach(resources -> resources.inNamespace(namespace).withLabel(label, value).delete());
+    }
+
+    /**
+     * @return the resource types of the `all` category.
+     */
+    protected List<MixedOperation<? extends HasMetadata, ?, ?>> allResourceTypes() {
+        return new ArrayList<>(List.of(
+                client.pods(),
+                client.replicationControllers(),
+                client.services(),
+                client.apps().daemonSets(),
+                client.apps().deployments(),
+                client.apps().replicaSets(),
+                client.apps().statefulSets(),
+                client.autoscaling().v1().horizontalPodAutoscalers(),
+                client.batch().v1().cronjobs(),
+                client.batch().v1().jobs()));
+    }
+
+    private List<HasMetadata> load(Path file) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            return client.load(content).items();
+        }
+    }
+
+    private void createSecret(String name, Map<String, String> data) {
+        client.secrets().inNamespace(namespace).resource(new SecretBuilder()
+                .withNewMetadata().withName(name).endMetadata()
+                .withType("Opaque")
+                .withData(data)
+                .build()).create();
+    }
+}
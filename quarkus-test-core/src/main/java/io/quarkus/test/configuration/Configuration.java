@@ -148,18 +148,44 @@ public final class Configuration {
         SERVICE_STARTUP_TIMEOUT("startup.timeout"),
         DELETE_FOLDER_ON_EXIT("delete.folder.on.exit"),
         SERVICE_STARTUP_CHECK_POLL_INTERVAL("startup.check-poll-interval"),
+        SERVICE_STARTUP_READINESS_PROBES("startup.readiness-probes"),
+        STARTUP_MEASUREMENT_ENABLED("startup.measurement.enabled"),
+        STARTUP_THRESHOLD_PERCENTILE("startup.threshold.percentile"),
+        STARTUP_THRESHOLD_TIME_TO_FIRST_RESPONSE("startup.threshold.time-to-first-response"),
+        STARTUP_THRESHOLD_RSS_MB("startup.threshold.rss-mb"),
+        FOOTPRINT_SAMPLING_INTERVAL("footprint.sampling-interval"),
+        SERVICE_PROFILING("profiling"),
+        SERVICE_PROFILING_ASYNC_PROFILER_PATH("profiling.async-profiler.path"),
+        SERVICE_PROFILING_ASYNC_PROFILER_EVENT("profiling.async-profiler.event"),
+        PARALLEL_STARTUP("parallel-startup.enabled"),
+        PARALLEL_STARTUP_MAX_THREADS("parallel-startup.max-threads"),
+        PARALLEL_SHUTDOWN("parallel-shutdown.enabled"),
+        PARALLEL_SHUTDOWN_MAX_THREADS("parallel-shutdown.max-threads"),
+        PARALLEL_BUILD("parallel-build.enabled"),
+        PARALLEL_BUILD_MAX_BUILDS("parallel-build.max-builds"),
+        PARALLEL_BUILD_MAX_NATIVE_BUILDS("parallel-build.max-native-builds"),
         TIMEOUT_FACTOR_PROPERTY("factor.timeout"),
         KUBERNETES_DEPLOYMENT_SERVICE_PROPERTY("kubernetes.service"),
         KUBERNETES_DEPLOYMENT_TEMPLATE_PROPERTY("kubernetes.template"),
         KUBERNETES_USE_INTERNAL_SERVICE_AS_URL_PROPERTY("kubernetes.use-internal-service-as-url"),
         KUBERNETES_DELETE_AFTERWARDS("kubernetes.delete.namespace.after.all"),
         KUBERNETES_EPHEMERAL_NAMESPACES("kubernetes.ephemeral.namespaces.enabled"),
+        KUBERNETES_NATIVE_API("kubernetes.native-api.enabled"),
+        KUBERNETES_NAMESPACE_POOL("kubernetes.namespace-pool.enabled"),
+        KUBERNETES_NAMESPACE_POOL_SIZE("kubernetes.namespace-pool.size"),
         OPENSHIFT_DEPLOYMENT_SERVICE_PROPERTY("openshift.service"),
         OPENSHIFT_DEPLOYMENT_TEMPLATE_PROPERTY("openshift.template"),
         OPENSHIFT_USE_INTERNAL_SERVICE_AS_URL_PROPERTY("openshift.use-internal-service-as-url"),
         OPENSHIFT_DELETE_AFTERWARDS("openshift.delete.project.after.all"),
         OPENSHIFT_PRINT_ON_ERROR("openshift.print.info.on.error"),
         OPENSHIFT_EPHEMERAL_NAMESPACES("openshift.ephemeral.namespaces.enabled"),
+        OPENSHIFT_NATIVE_API("openshift.native-api.enabled"),
+        OPENSHIFT_CLUSTER_CACHE("openshift.cluster-cache.enabled"),
+        OPENSHIFT_PROJECT_POOL("openshift.project-pool.enabled"),
+        OPENSHIFT_PROJECT_POOL_SIZE("openshift.project-pool.size"),
+        OPENSHIFT_BUILD_CACHE("openshift.build-cache.enabled"),
+        OPENSHIFT_BUILD_CACHE_PROJECT("openshift.build-cache.project"),
+        OPENSHIFT_BUILD_CACHE_LIB_LAYER("openshift.build-cache.lib-layer.enabled"),
 
         DELETE_IMAGE_ON_STOP_PROPERTY("container.delete.image.on.stop"),
         IMAGE_STREAM_TIMEOUT("imagestream.install.timeout"),
@@ -174,10 +200,12 @@ public final class Configuration {
         PORT_RANGE_MIN("port.range.min"),
         PORT_RANGE_MAX("port.range.max"),
         PORT_RESOLUTION_STRATEGY("port.resolution.strategy"),
+        PORT_LEASE_DIR("port.lease.dir"),
 
         METRICS_EXTENSION_ENABLED_PROPERTY("metrics.enabled"),
         METRICS_PUSH_AFTER_EACH_TEST("metrics.push-after-each-test"),
         METRICS_EXPORT_PROMETHEUS_PROPERTY("metrics.export.prometheus.endpoint"),
+        METRICS_REPORT_DIR("metrics.report.dir"),
         JAEGER_HTTP_ENDPOINT_SYSTEM_PROPERTY("tracing.jaeger.endpoint"),
 
         LOG_ENABLE("log.enable"),
@@ -185,6 +213,11 @@ public final class Configuration {
         LOG_FORMAT("log.format"),
         LOG_FILE_OUTPUT("log.file.output"),
         LOG_NOCOLOR("log.nocolor"),
+        LOG_WATCH_SERVICE_ENABLED("log.watch-service.enabled"),
+        LOG_FOLLOW_ENABLED("log.follow.enabled"),
+        LOG_BUFFER_MAX_LINES("log.buffer.max-lines"),
+        LOG_BUFFER_MAX_BYTES("log.buffer.max-bytes"),
+        LOG_BUFFER_SPILL_TO_DISK("log.buffer.spill-to-disk"),
         CONTAINER_STARTUP_ATTEMPTS("container-startup-attempts"),
         JAEGER_TRACE_URL_PROPERTY("jaeger.trace.url"),
         GRAFANA_COLLECTOR_URL_PROPERTY("grafana.collector.url"),
@@ -206,7 +239,11 @@ public final class Configuration {
         S2I_MAVEN_REMOTE_REPOSITORY("s2i.maven.remote.repository"),
         S2I_REPLACE_CA_CERTS("s2i.java.replace-ca-certs"),
         S2I_BASE_NATIVE_IMAGE("s2i.openshift.base-native-image"),
-        CUSTOM_BUILD_REQUIRED("custom-build.required");
+        CUSTOM_BUILD_REQUIRED("custom-build.required"),
+        CUSTOM_BUILD_CACHE_ENABLED("custom-build.cache.enabled"),
+        CUSTOM_BUILD_CACHE_DIR("custom-build.cache.dir"),
+        CUSTOM_BUILD_INCREMENTAL("custom-build.incremental.enabled"),
+        CUSTOM_BUILD_BACKEND("custom-build.backend");
 
         private final String name;
 
@@ -1,41 +1,47 @@
 package io.quarkus.test.logging;
 
 import java.io.File;
-import java.io.IOException;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.util.List;
+import java.util.stream.Stream;
 
 import io.quarkus.test.bootstrap.Service;
-import io.quarkus.test.utils.FileUtils;
 
 public class FileServiceLoggingHandler extends ServiceLoggingHandler {
 
-    private final File file;
-    private String printedContent;
+    private final LogFileSource logFile;
 
     public FileServiceLoggingHandler(Service context, File input) {
         super(context);
-        this.file = input;
+        this.logFile = new LogFileSource(this, input);
     }
 
     @Override
-    protected synchronized void handle() {
-        if (file.exists()) {
-            String newContent = FileUtils.loadFile(file);
-            onStringDifference(newContent, printedContent);
-            printedContent = newContent;
-        }
+    protected void handle() {
+        logFile.readNewLines();
+    }
+
+    @Override
+    protected void onStartWatching() {
+        logFile.startWatching();
+    }
+
+    @Override
+    protected void onStopWatching() {
+        logFile.stopWatching();
+    }
+
+    @Override
+    public boolean logsContains(String expected) {
+        return logFile.logsContains(expected, super::logsContains);
     }
 
     @Override
     public List<String> logs() {
-        try {
-            return Files.readAllLines(file.toPath(), Charset.defaultCharset());
-        } catch (IOException e) {
-            Log.warn("Exception reading file log file", e);
-            // Fallback to default implementation:
-            return super.logs();
-        }
+        return logFile.logs(super::logs);
+    }
+
+    @Override
+    public Stream<String> streamLogs() {
+        return logFile.streamLogs(super::streamLogs);
     }
 }
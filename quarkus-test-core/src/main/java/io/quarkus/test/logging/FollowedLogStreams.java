@@ -0,0 +1,222 @@
+package io.quarkus.test.logging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Follows several log streams (for example, the containers of the pods of a service), so only the new output is
+ * transferred and handled instead of downloading the whole logs on every tick. Ended streams are followed again since
+ * the time of their last output, so the lines logged in the same second may be received twice. Their incomplete line
+ * is dropped, as it's received again. The first line of each stream is prefixed by the stream name.
+ *
+ * The callback of new lines is invoked without holding any lock of this class, so it can synchronize with the threads
+ * that call {@link #followOnly} or {@link #close()}.
+ */
+public final class FollowedLogStreams implements Closeable {
+
+    private static final byte NEW_LINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Follower follower;
+    private final Runnable onNewLines;
+    private final Map<String, FollowedStream> streams = new HashMap<>();
+    private final Queue<String> lines = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param follower starts following a stream.
+     * @param onNewLines invoked as soon as new complete lines are received.
+     */
+    public FollowedLogStreams(Follower follower, Runnable onNewLines) {
+        this.follower = follower;
+        this.onNewLines = onNewLines;
+    }
+
+    /**
+     * Follows the given streams: new streams are followed from the beginning, ended streams are followed again since
+     * their last output, and the streams that are not given anymore (e.g. deleted pods) are closed.
+     */
+    public synchronized void followOnly(Set<String> names) {
+        streams.entrySet().removeIf(entry -> {
+            if (!names.contains(entry.getKey())) {
+                entry.getValue().close();
+                return true;
+            }
+
+            return false;
+        });
+
+        for (String name : names) {
+            FollowedStream stream = streams.get(name);
+            if (stream == null) {
+                stream = new FollowedStream("[" + name + "] ");
+                streams.put(name, stream);
+                stream.follow(name, null);
+            } else if (stream.ended) {
+                stream.output.discardIncompleteLine();
+                stream.follow(name, stream.output.lastOutput);
+            }
+        }
+    }
+
+    /**
+     * Hands over the complete lines received so far, in order of arrival.
+     */
+    public void drainLines(Consumer<String> consumer) {
+        String line;
+        while ((line = lines.poll()) != null) {
+            consumer.accept(line);
+        }
+    }
+
+    /**
+     * Stops following all the streams and hands over the incomplete lines.
+     */
+    @Override
+    public void close() {
+        List<FollowedStream> closed;
+        synchronized (this) {
+            closed = List.copyOf(streams.values());
+            streams.clear();
+        }
+
+        closed.forEach(FollowedStream::close);
+        boolean newLines = false;
+        for (FollowedStream stream : closed) {
+            newLines |= stream.output.completeIncompleteLine();
+        }
+
+        if (newLines) {
+            onNewLines.run();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Follower {
+
+        /**
+         * @param name the stream to follow.
+         * @param since the time from which the stream is followed, or null to follow it from the beginning.
+         * @param output where the stream content is written as it arrives.
+         * @return the followed stream.
+         */
+        Following follow(String name, Instant since, OutputStream output);
+    }
+
+    /**
+     * @param handle closes the stream.
+     * @param done completed once the stream ends, for example, when the container exits or the connection is lost.
+     */
+    public record Following(Closeable handle, CompletionStage<?> done) {
+    }
+
+    private final class FollowedStream {
+
+        private final LineOutputStream output;
+        private volatile boolean ended;
+        private Following following;
+
+        private FollowedStream(String firstLinePrefix) {
+            this.output = new LineOutputStream(firstLinePrefix);
+        }
+
+        private void follow(String name, Instant since) {
+            ended = false;
+            try {
+                following = follower.follow(name, since, output);
+                following.done().whenComplete((result, error) -> ended = true);
+            } catch (RuntimeException e) {
+                Log.debug("Could not follow log stream %s. Caused by: %s", name, e.getMessage());
+                ended = true;
+            }
+        }
+
+        private void close() {
+            if (following != null) {
+                IOUtils.closeQuietly(following.handle());
+            }
+        }
+    }
+
+    private final class LineOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private String prefix;
+        private volatile Instant lastOutput;
+
+        private LineOutputStream(String firstLinePrefix) {
+            this.prefix = firstLinePrefix;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (appendLines(bytes, offset, length)) {
+                // outside the lock, so the callback can't deadlock with a thread closing the streams
+                onNewLines.run();
+            }
+        }
+
+        private synchronized boolean appendLines(byte[] bytes, int offset, int length) {
+            lastOutput = Instant.now();
+            boolean newLines = false;
+            int start = offset;
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] == NEW_LINE) {
+                    line.write(bytes, start, i - start);
+                    newLines |= completeLine();
+                    start = i + 1;
+                }
+            }
+
+            line.write(bytes, start, offset + length - start);
+            return newLines;
+        }
+
+        private synchronized boolean completeIncompleteLine() {
+            return completeLine();
+        }
+
+        private synchronized void discardIncompleteLine() {
+            line.reset();
+        }
+
+        private boolean completeLine() {
+            byte[] content = line.toByteArray();
+            line.reset();
+            int length = content.length;
+            if (length > 0 && content[length - 1] == CARRIAGE_RETURN) {
+                length--;
+            }
+
+            if (length == 0) {
+                return false;
+            }
+
+            String text = new String(content, 0, length, StandardCharsets.UTF_8);
+            if (prefix != null) {
+                text = prefix + text;
+                prefix = null;
+            }
+
+            lines.add(text);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package io.quarkus.test.logging;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Append-only buffer of log lines.
+ * Lines are stored in fixed-size chunks, so appending a line never copies the previous ones and readers iterate over an
+ * immutable {@link Snapshot} without locking. When a cap of lines or bytes is configured, the oldest chunks are evicted
+ * and, if a spill folder is given, written into a file of that folder from where they can still be streamed.
+ */
+public final class LogBuffer implements Closeable {
+
+    public static final int UNLIMITED = 0;
+
+    private static final int MAX_CHUNK_SIZE = 1024;
+    private static final int BYTES_CAPPED_CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_CAP = 8;
+    private static final String SPILL_FILE_PREFIX = "quarkus-test-logs-";
+
+    private final int maxLines;
+    private final long maxBytes;
+    private final int chunkSize;
+    private final Deque<Chunk> chunks = new ArrayDeque<>();
+    private Path spillFolder;
+    private Path spillFile;
+    private BufferedWriter spillWriter;
+    private Chunk current;
+    private long retainedBytes;
+    private volatile Snapshot snapshot;
+
+    private LogBuffer(int maxLines, long maxBytes, Path spillFolder) {
+        this.maxLines = maxLines;
+        this.maxBytes = maxBytes;
+        this.spillFolder = spillFolder;
+        this.chunkSize = chunkSize(maxLines, maxBytes);
+        this.snapshot = new Snapshot(new String[0][], chunkSize, 0, 0, null);
+    }
+
+    public static LogBuffer unbounded() {
+        return new LogBuffer(UNLIMITED, UNLIMITED, null);
+    }
+
+    /**
+     * @param maxLines maximum number of retained lines, or {@link #UNLIMITED}.
+     * @param maxBytes maximum number of retained bytes once the lines are encoded in UTF-8, or {@link #UNLIMITED}.
+     * @param spillFolder folder where the evicted lines are kept, or null to drop them.
+     */
+    public static LogBuffer bounded(int maxLines, long maxBytes, Path spillFolder) {
+        return new LogBuffer(maxLines, maxBytes, spillFolder);
+    }
+
+    public synchronized void add(String line) {
+        if (current == null || current.size == chunkSize) {
+            current = new Chunk(chunkSize);
+            chunks.addLast(current);
+        }
+
+        int bytes = utf8Length(line);
+        current.lines[current.size++] = line;
+        current.bytes += bytes;
+        retainedBytes += bytes;
+        Snapshot previous = snapshot;
+        long firstLine = evictIfNeeded(previous.firstLine);
+        snapshot = new Snapshot(chunkArrays(previous, firstLine), chunkSize, firstLine, previous.lineCount + 1, spillFile);
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public Stream<String> lines() {
+        return snapshot.lines(0);
+    }
+
+    @Override
+    public synchronized void close() {
+        spillFolder = null;
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+                Files.deleteIfExists(spillFile);
+            } catch (IOException e) {
+                Log.debug("Could not delete log spill file %s. Caused by: %s", spillFile, e.getMessage());
+            }
+        }
+    }
+
+    private long evictIfNeeded(long firstLine) {
+        long retainedLines = snapshot.lineCount + 1 - firstLine;
+        while (!chunks.isEmpty() && (exceeds(retainedLines, maxLines) || exceeds(retainedBytes, maxBytes))) {
+            Chunk evicted = chunks.removeFirst();
+            if (evicted == current) {
+                current = null;
+            }
+
+            spill(evicted);
+            retainedBytes -= evicted.bytes;
+            retainedLines -= evicted.size;
+            firstLine += evicted.size;
+        }
+
+        return firstLine;
+    }
+
+    private String[][] chunkArrays(Snapshot previous, long firstLine) {
+        if (previous.chunks.length == chunks.size() && previous.firstLine == firstLine) {
+            // same chunks, only the last one has a new line
+            return previous.chunks;
+        }
+
+        return chunks.stream().map(chunk -> chunk.lines).toArray(String[][]::new);
+    }
+
+    private void spill(Chunk chunk) {
+        if (spillFolder == null) {
+            return;
+        }
+
+        try {
+            if (spillWriter == null) {
+                spillFile = Files.createTempFile(Files.createDirectories(spillFolder), SPILL_FILE_PREFIX, Log.LOG_SUFFIX);
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8);
+            }
+
+            for (int index = 0; index < chunk.size; index++) {
+                spillWriter.write(chunk.lines[index]);
+                spillWriter.newLine();
+            }
+
+            spillWriter.flush();
+        } catch (IOException e) {
+            Log.warn("Could not spill logs to disk, the oldest lines are dropped. Caused by: %s", e.getMessage());
+            spillFolder = null;
+            spillFile = null;
+        }
+    }
+
+    private static int chunkSize(int maxLines, long maxBytes) {
+        if (maxLines > UNLIMITED) {
+            // evicting a chunk drops at most 1/8 of the retained lines
+            return Math.max(1, Math.min(MAX_CHUNK_SIZE, maxLines / CHUNKS_PER_CAP));
+        } else if (maxBytes > UNLIMITED) {
+            return BYTES_CAPPED_CHUNK_SIZE;
+        }
+
+        return MAX_CHUNK_SIZE;
+    }
+
+    private static boolean exceeds(long value, long limit) {
+        return limit > UNLIMITED && value > limit;
+    }
+
+    /**
+     * Same as {@code line.getBytes(UTF_8).length}, without encoding the line.
+     */
+    private static int utf8Length(String line) {
+        int length = line.length();
+        for (int index = 0; index < line.length(); index++) {
+            char c = line.charAt(index);
+            if (c >= '\u0800') {
+                // three bytes, or four for a surrogate pair that counts as two chars
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= '\u0080') {
+                length++;
+            }
+        }
+
+        return length;
+    }
+
+    /**
+     * Immutable view of the buffer at a given moment.
+     */
+    public static final class Snapshot {
+
+        private final String[][] chunks;
+        private final int chunkSize;
+        private final long firstLine;
+        private final long lineCount;
+        private final Path spillFile;
+
+        private Snapshot(String[][] chunks, int chunkSize, long firstLine, long lineCount, Path spillFile) {
+            this.chunks = chunks;
+            this.chunkSize = chunkSize;
+            this.firstLine = firstLine;
+            this.lineCount = lineCount;
+            this.spillFile = spillFile;
+        }
+
+        /**
+         * @return number of lines appended so far, including the evicted ones.
+         */
+        public long lineCount() {
+            return lineCount;
+        }
+
+        /**
+         * @return index of the oldest line that can be still read.
+         */
+        public long firstAvailableLine() {
+            return spillFile != null ? 0 : firstLine;
+        }
+
+        /**
+         * @return whether some of the available lines are only in the spill file.
+         */
+        public boolean hasSpilledLines() {
+            return firstAvailableLine() < firstLine;
+        }
+
+        /**
+         * @return unmodifiable view of the lines retained in memory, without copying them.
+         */
+        public List<String> retainedLines() {
+            return new AbstractList<>() {
+                @Override
+                public String get(int index) {
+                    return line(firstLine + Objects.checkIndex(index, size()));
+                }
+
+                @Override
+                public int size() {
+                    return (int) (lineCount - firstLine);
+                }
+            };
+        }
+
+        /**
+         * @return lines from the given index, or from the oldest available one. The stream must be closed once done.
+         */
+        public Stream<String> lines(long from) {
+            long start = Math.max(from, firstAvailableLine());
+            Stream<String> retained = LongStream.range(Math.max(start, firstLine), lineCount).mapToObj(this::line);
+            if (start >= firstLine) {
+                return retained;
+            }
+
+            return Stream.concat(spilledLines(start), retained);
+        }
+
+        private String line(long index) {
+            long offset = index - firstLine;
+            return chunks[(int) (offset / chunkSize)][(int) (offset % chunkSize)];
+        }
+
+        private Stream<String> spilledLines(long start) {
+            try {
+                return Files.lines(spillFile, StandardCharsets.UTF_8).skip(start).limit(firstLine - start);
+            } catch (NoSuchFileException e) {
+                // the buffer was closed in the meantime
+                return Stream.empty();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        private final String[] lines;
+        private int size;
+        private long bytes;
+
+        private Chunk(int size) {
+            this.lines = new String[size];
+        }
+    }
+}
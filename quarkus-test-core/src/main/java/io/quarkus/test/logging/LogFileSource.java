@@ -0,0 +1,92 @@
+package io.quarkus.test.logging;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * The log file of a file logging handler: the lines appended to the file are handed to the handler, the file is
+ * watched while the handler is watching, and the logs are read from the file, which has all the lines even once the
+ * handler retained lines are cleared.
+ */
+final class LogFileSource {
+
+    private final LoggingHandler handler;
+    private final File file;
+    private final LogFileTailer tailer;
+    private Optional<Closeable> fileWatch = Optional.empty();
+
+    LogFileSource(LoggingHandler handler, File file) {
+        this.handler = handler;
+        this.file = file;
+        this.tailer = new LogFileTailer(file);
+    }
+
+    synchronized void readNewLines() {
+        handler.onLines(tailer.readNewLines());
+    }
+
+    void startWatching() {
+        fileWatch = LogFileWatcher.watch(file, handler::onLogsChanged);
+    }
+
+    synchronized void stopWatching() {
+        fileWatch.ifPresent(IOUtils::closeQuietly);
+        handler.onLines(tailer.readRemainingLines());
+    }
+
+    /**
+     * @param retainedLinesContain checks the lines retained by the handler.
+     */
+    boolean logsContains(String expected, Predicate<String> retainedLinesContain) {
+        if (!handler.isWatching()) {
+            // the retained lines are cleared once watching is stopped, but the file still has them
+            try (Stream<String> lines = handler.streamLogs()) {
+                return LogMatcher.anyMatches(expected, lines);
+            }
+        }
+
+        try {
+            // catch up with the file before matching, only the appended bytes are read
+            readNewLines();
+        } catch (UncheckedIOException e) {
+            Log.warn("Exception reading file log file", e);
+        }
+
+        return retainedLinesContain.test(expected);
+    }
+
+    /**
+     * @param fallback the lines retained by the handler, used when the file can't be read.
+     */
+    List<String> logs(Supplier<List<String>> fallback) {
+        try {
+            return Files.readAllLines(file.toPath(), Charset.defaultCharset());
+        } catch (IOException e) {
+            Log.warn("Exception reading file log file", e);
+            return fallback.get();
+        }
+    }
+
+    /**
+     * @param fallback the lines retained by the handler, used when the file can't be read.
+     */
+    Stream<String> streamLogs(Supplier<Stream<String>> fallback) {
+        try {
+            return Files.lines(file.toPath(), Charset.defaultCharset());
+        } catch (IOException e) {
+            Log.warn("Exception reading file log file", e);
+            return fallback.get();
+        }
+    }
+}
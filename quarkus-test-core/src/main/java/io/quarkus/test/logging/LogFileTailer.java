@@ -0,0 +1,110 @@
+package io.quarkus.test.logging;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * Reads only the content appended to a log file since the previous read.
+ * The incomplete trailing line is kept until its line separator is written, and the reading starts over
+ * when the file is truncated or replaced by a new one (for example, when the application is restarted).
+ */
+final class LogFileTailer {
+
+    private static final byte NEW_LINE = '\n';
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path file;
+    private final ByteArrayOutputStream incompleteLine = new ByteArrayOutputStream();
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long position;
+    private Object fileKey;
+
+    LogFileTailer(File file) {
+        this.file = file.toPath();
+    }
+
+    /**
+     * @return the complete lines appended since the last invocation, or an empty string if there are none.
+     */
+    synchronized String readNewLines() {
+        return read(false);
+    }
+
+    /**
+     * @return the lines appended since the last invocation including the trailing line without line separator.
+     */
+    synchronized String readRemainingLines() {
+        return read(true);
+    }
+
+    private String read(boolean includeIncompleteLine) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            startOverIfFileWasReplaced(channel);
+            channel.position(position);
+            int read;
+            while ((read = channel.read(buffer)) > 0) {
+                incompleteLine.write(buffer.array(), 0, read);
+                position += read;
+                buffer.clear();
+            }
+        } catch (NoSuchFileException ignored) {
+            // the process has not created the file yet
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return drainLines(includeIncompleteLine);
+    }
+
+    private void startOverIfFileWasReplaced(FileChannel channel) throws IOException {
+        Object currentFileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        boolean replaced = fileKey != null && !Objects.equals(fileKey, currentFileKey);
+        boolean truncated = channel.size() < position;
+        if (replaced || truncated) {
+            position = 0;
+            incompleteLine.reset();
+        }
+
+        fileKey = currentFileKey;
+    }
+
+    private String drainLines(boolean includeIncompleteLine) {
+        byte[] content = incompleteLine.toByteArray();
+        int end = content.length;
+        if (!includeIncompleteLine) {
+            // the new line byte is never part of a multibyte UTF-8 sequence, so it's safe to split by it
+            end = lastIndexOfNewLine(content) + 1;
+        }
+
+        if (end == 0) {
+            return EMPTY;
+        }
+
+        incompleteLine.reset();
+        incompleteLine.write(content, end, content.length - end);
+        return new String(content, 0, end, StandardCharsets.UTF_8);
+    }
+
+    private static int lastIndexOfNewLine(byte[] content) {
+        for (int index = content.length - 1; index >= 0; index--) {
+            if (content[index] == NEW_LINE) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+}
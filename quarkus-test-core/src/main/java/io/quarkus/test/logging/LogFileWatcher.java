@@ -0,0 +1,132 @@
+package io.quarkus.test.logging;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.configuration.PropertyLookup;
+
+/**
+ * Notifies file logging handlers as soon as their log file changes, using one {@link WatchService} and one thread
+ * for all the log files. When the watch service is not available or disabled using the property
+ * `ts.global.log.watch-service.enabled`, handlers rely on the regular polling only.
+ */
+final class LogFileWatcher {
+
+    private static final PropertyLookup WATCH_SERVICE_ENABLED = new PropertyLookup(
+            Configuration.Property.LOG_WATCH_SERVICE_ENABLED.getName(), Boolean.TRUE.toString());
+    private static final LogFileWatcher INSTANCE = new LogFileWatcher();
+
+    private final Map<Path, Set<Runnable>> listenersByFile = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> keysByFolder = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    private LogFileWatcher() {
+
+    }
+
+    /**
+     * Registers the listener to be invoked when the file is created or modified.
+     *
+     * @return the registration to close when the notifications are no longer needed, or empty when the file can
+     *         be only polled.
+     */
+    static Optional<Closeable> watch(File file, Runnable listener) {
+        if (!WATCH_SERVICE_ENABLED.getAsBoolean()) {
+            return Optional.empty();
+        }
+
+        return INSTANCE.register(file.toPath().toAbsolutePath().normalize(), listener);
+    }
+
+    private synchronized Optional<Closeable> register(Path file, Runnable listener) {
+        try {
+            Path folder = file.getParent();
+            if (!keysByFolder.containsKey(folder)) {
+                keysByFolder.put(folder, folder.register(getOrStartWatchService(), ENTRY_CREATE, ENTRY_MODIFY));
+            }
+        } catch (IOException | UnsupportedOperationException e) {
+            Log.debug("Log file %s can't be watched, falling back to polling. Caused by: %s", file, e.getMessage());
+            return Optional.empty();
+        }
+
+        listenersByFile.computeIfAbsent(file, f -> ConcurrentHashMap.newKeySet()).add(listener);
+        return Optional.of(() -> unregister(file, listener));
+    }
+
+    private synchronized void unregister(Path file, Runnable listener) {
+        Set<Runnable> listeners = listenersByFile.get(file);
+        if (listeners == null) {
+            return;
+        }
+
+        listeners.remove(listener);
+        if (listeners.isEmpty()) {
+            listenersByFile.remove(file);
+            Path folder = file.getParent();
+            if (listenersByFile.keySet().stream().noneMatch(f -> folder.equals(f.getParent()))) {
+                Optional.ofNullable(keysByFolder.remove(folder)).ifPresent(WatchKey::cancel);
+            }
+        }
+    }
+
+    private WatchService getOrStartWatchService() throws IOException {
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            Thread thread = new Thread(this::processEvents, "log-file-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        return watchService;
+    }
+
+    private void processEvents() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Path folder = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        notifyFolder(folder);
+                    } else {
+                        notifyFile(folder.resolve((Path) event.context()));
+                    }
+                }
+
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // nothing to watch anymore
+        }
+    }
+
+    private void notifyFolder(Path folder) {
+        listenersByFile.forEach((file, listeners) -> {
+            if (folder.equals(file.getParent())) {
+                listeners.forEach(Runnable::run);
+            }
+        });
+    }
+
+    private void notifyFile(Path file) {
+        Optional.ofNullable(listenersByFile.get(file)).ifPresent(listeners -> listeners.forEach(Runnable::run));
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.test.logging;
+
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Stream;
+
+/**
+ * Matches a line that contains the expected text or matches it as a regular expression.
+ * The regular expression is compiled once and the lines are evaluated incrementally, so each invocation only checks the
+ * lines appended since the previous one, or from the oldest line still available if the buffer evicted them.
+ * Once a line matches, its index is kept and the lines are no longer evaluated.
+ */
+final class LogMatcher {
+
+    private static final String ANY = ".*";
+    private static final int NOT_FOUND = -1;
+
+    private final String expected;
+    private final Pattern pattern;
+    private LogBuffer buffer;
+    private long evaluatedLines;
+    private long firstMatchingLine = NOT_FOUND;
+
+    LogMatcher(String expected) {
+        this.expected = expected;
+        this.pattern = compile(expected);
+    }
+
+    /**
+     * @param logs buffer of lines, a different instance is expected when logs are cleared.
+     * @return the index of the first matching line, or -1 if none matches.
+     */
+    synchronized long firstMatchingLine(LogBuffer logs) {
+        if (buffer != logs) {
+            buffer = logs;
+            evaluatedLines = 0;
+            firstMatchingLine = NOT_FOUND;
+        }
+
+        if (firstMatchingLine == NOT_FOUND) {
+            LogBuffer.Snapshot snapshot = logs.snapshot();
+            long index = Math.max(evaluatedLines, snapshot.firstAvailableLine());
+            try (Stream<String> newLines = snapshot.lines(index)) {
+                Iterator<String> iterator = newLines.iterator();
+                while (iterator.hasNext() && firstMatchingLine == NOT_FOUND) {
+                    if (matches(iterator.next())) {
+                        firstMatchingLine = index;
+                    }
+
+                    index++;
+                }
+            }
+
+            evaluatedLines = index;
+        }
+
+        return firstMatchingLine;
+    }
+
+    /**
+     * @return whether any of the lines contains the expected text or matches it as a regular expression.
+     */
+    static boolean anyMatches(String expected, Stream<String> lines) {
+        LogMatcher matcher = new LogMatcher(expected);
+        return lines.anyMatch(matcher::matches);
+    }
+
+    private boolean matches(String line) {
+        return line.contains(expected) // simple contains
+                || (pattern != null && pattern.matcher(line).matches()); // or by regular expression
+    }
+
+    private static Pattern compile(String expected) {
+        try {
+            return Pattern.compile(ANY + expected + ANY);
+        } catch (PatternSyntaxException e) {
+            // not a regular expression, so only simple contains is used
+            return null;
+        }
+    }
+}
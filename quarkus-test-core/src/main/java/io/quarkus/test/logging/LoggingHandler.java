@@ -1,54 +1,98 @@
 package io.quarkus.test.logging;
 
 import java.io.Closeable;
-import java.util.Collections;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
 import io.quarkus.test.utils.AwaitilityUtils;
+import io.quarkus.test.utils.DaemonThreadFactory;
 
 public abstract class LoggingHandler implements Closeable {
 
     private static final long TIMEOUT_IN_MILLIS = 4000;
-    private static final String ANY = ".*";
+    private static final int SCHEDULER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(SCHEDULER_THREADS,
+            new DaemonThreadFactory("logging-handler"));
 
-    private final List<String> logs = new CopyOnWriteArrayList<>();
-    private Timer timer = null;
+    private final Map<String, LogMatcher> matchers = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> logWaiters = new ConcurrentHashMap<>();
+    private final AtomicBoolean handleRequested = new AtomicBoolean();
+    private volatile LogBuffer logs = LogBuffer.unbounded();
+    private volatile ScheduledFuture<?> task = null;
 
     protected abstract void handle();
 
     public void startWatching() {
-        if (timer != null) {
+        if (task != null) {
             return;
         }
 
-        logs.clear();
+        clearLogs();
 
-        timer = new Timer();
-        timer.schedule(new LoggingHandlerTask(), 0, TIMEOUT_IN_MILLIS);
+        task = SCHEDULER.scheduleWithFixedDelay(this::handleQuietly, 0, TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+        onStartWatching();
     }
 
     public void stopWatching() {
-        if (timer == null) {
+        if (task == null) {
             return;
         }
-        timer.cancel();
+        task.cancel(false);
         flush();
-        logs.clear();
+        onStopWatching();
+        // the matchers are bound to the buffer that is replaced
+        matchers.clear();
+        clearLogs();
     }
 
     public List<String> logs() {
-        return Collections.unmodifiableList(logs);
+        LogBuffer.Snapshot snapshot = logs.snapshot();
+        if (snapshot.hasSpilledLines()) {
+            try (Stream<String> lines = snapshot.lines(0)) {
+                return lines.toList();
+            }
+        }
+
+        return snapshot.retainedLines();
     }
 
+    /**
+     * @return the retained log lines without copying them. The stream must be closed once done.
+     */
+    public Stream<String> streamLogs() {
+        return logs.lines();
+    }
+
+    /**
+     * Checks whether any line contains the expected text or matches it as a regular expression.
+     * Only the lines appended since the previous check of the same expected text are evaluated.
+     */
     public boolean logsContains(String expected) {
-        return logs().stream().anyMatch(line -> line.contains(expected) // simple contains
-                || line.matches(ANY + expected + ANY)); // or by regular expression
+        return matchers.computeIfAbsent(expected, LogMatcher::new).firstMatchingLine(logs) >= 0;
+    }
+
+    /**
+     * @return a future completed as soon as a line containing or matching the expected text is handled.
+     */
+    public CompletableFuture<Void> whenLogsContain(String expected) {
+        CompletableFuture<Void> waiter = logWaiters.compute(expected,
+                (key, previous) -> previous == null || previous.isDone() ? new CompletableFuture<>() : previous);
+        if (logsContains(expected)) {
+            waiter.complete(null);
+        }
+
+        // the waiter is shared, so callers cancelling their future must not cancel it for the others
+        return waiter.copy();
     }
 
     public void flush() {
@@ -62,6 +106,14 @@ public abstract class LoggingHandler implements Closeable {
 
     protected void onLine(String line) {
         logs.add(line);
+        if (!logWaiters.isEmpty()) {
+            logWaiters.forEach((expected, waiter) -> {
+                if (!waiter.isDone() && logsContains(expected)) {
+                    waiter.complete(null);
+                }
+            });
+        }
+
         if (isLogEnabled()) {
             logInfo(line);
         }
@@ -87,15 +139,57 @@ public abstract class LoggingHandler implements Closeable {
         return true;
     }
 
-    private final class LoggingHandlerTask extends TimerTask {
+    /**
+     * @return the buffer where the lines are retained, created each time the watching is started or stopped.
+     */
+    protected LogBuffer createLogBuffer() {
+        return LogBuffer.unbounded();
+    }
 
-        @Override
-        public void run() {
-            try {
-                handle();
-            } catch (Exception exception) {
-                Log.debug("Exception thrown by logging handler", exception.getMessage());
-            }
+    protected boolean isWatching() {
+        return task != null && !task.isDone();
+    }
+
+    /**
+     * Invoked when watching is started, so that handlers can subscribe to change notifications.
+     */
+    protected void onStartWatching() {
+
+    }
+
+    /**
+     * Requests handling of new logs as soon as possible instead of waiting for the next poll.
+     * Several requests are merged into a single handling when they arrive before it runs.
+     */
+    protected void onLogsChanged() {
+        if (isWatching() && handleRequested.compareAndSet(false, true)) {
+            SCHEDULER.execute(() -> {
+                handleRequested.set(false);
+                handleQuietly();
+            });
+        }
+    }
+
+    /**
+     * Invoked after the last flush when watching is stopped, so that handlers can process buffered output.
+     */
+    protected void onStopWatching() {
+
+    }
+
+    private void clearLogs() {
+        // the matchers keep the position in the previous buffer, so a new buffer is used instead of clearing it
+        LogBuffer previous = logs;
+        logs = createLogBuffer();
+        previous.close();
+        logWaiters.values().removeIf(CompletableFuture::isDone);
+    }
+
+    private void handleQuietly() {
+        try {
+            handle();
+        } catch (Exception exception) {
+            Log.debug("Exception thrown by logging handler", exception.getMessage());
         }
     }
 }
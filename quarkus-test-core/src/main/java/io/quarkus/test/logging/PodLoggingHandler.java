@@ -0,0 +1,122 @@
+package io.quarkus.test.logging;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.fabric8.kubernetes.api.model.Container;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.quarkus.test.bootstrap.Service;
+import io.quarkus.test.configuration.Configuration;
+
+/**
+ * Downloads the logs of the pods of the service on every tick, or follows the logs of their containers when
+ * `ts.<service>.log.follow.enabled` is true, so only the new output is transferred. Subclasses only list the running
+ * pods and watch the log of a container, the Kubernetes client being provided by their module.
+ */
+public abstract class PodLoggingHandler extends ServiceLoggingHandler {
+
+    private final FollowedLogStreams followedLogs;
+
+    private Map<String, String> oldLogs;
+    private volatile Map<String, PodContainer> runningContainers = Map.of();
+
+    protected PodLoggingHandler(Service service) {
+        super(service);
+
+        if (service.getConfiguration().isTrue(Configuration.Property.LOG_FOLLOW_ENABLED)) {
+            followedLogs = new FollowedLogStreams(this::followStream, this::drainFollowedLines);
+        } else {
+            followedLogs = null;
+        }
+    }
+
+    /**
+     * @return the whole logs of every pod of the service, by pod name.
+     */
+    protected abstract Map<String, String> downloadLogs();
+
+    /**
+     * @return the running pods of the service, whose containers are followed.
+     */
+    protected abstract List<Pod> runningPodsInService();
+
+    /**
+     * Follows the log of the container since the given time, or from the beginning when it's null.
+     */
+    protected abstract LogWatch watchLog(String podName, String containerName, Instant since, OutputStream output);
+
+    @Override
+    protected synchronized void handle() {
+        if (followedLogs != null) {
+            handleFollowedLogs();
+            return;
+        }
+
+        Map<String, String> newLogs = downloadLogs();
+        for (Entry<String, String> entry : newLogs.entrySet()) {
+            onMapDifference(entry);
+        }
+
+        oldLogs = newLogs;
+    }
+
+    @Override
+    protected void onStopWatching() {
+        if (followedLogs != null) {
+            // not synchronized, as closing the streams hands over the incomplete lines
+            followedLogs.close();
+            drainFollowedLines();
+        }
+    }
+
+    /**
+     * Invoked as soon as new lines are received, the pods are only listed again on the next tick.
+     */
+    private synchronized void drainFollowedLines() {
+        followedLogs.drainLines(this::onLine);
+    }
+
+    private void handleFollowedLogs() {
+        Map<String, PodContainer> containers = new HashMap<>();
+        for (Pod pod : runningPodsInService()) {
+            for (Container container : pod.getSpec().getContainers()) {
+                PodContainer podContainer = new PodContainer(pod.getMetadata().getName(), container.getName());
+                containers.put(podContainer.pod() + "-" + podContainer.container(), podContainer);
+            }
+        }
+
+        runningContainers = containers;
+        followedLogs.followOnly(containers.keySet());
+        drainFollowedLines();
+    }
+
+    private FollowedLogStreams.Following followStream(String name, Instant since, OutputStream output) {
+        PodContainer container = runningContainers.get(name);
+        LogWatch watch = watchLog(container.pod(), container.container(), since, output);
+        return new FollowedLogStreams.Following(watch, watch.onDone());
+    }
+
+    private void onMapDifference(Entry<String, String> entry) {
+        String newPodLogs = formatPodLogs(entry.getKey(), entry.getValue());
+
+        if (oldLogs != null && oldLogs.containsKey(entry.getKey())) {
+            String oldPodLogs = formatPodLogs(entry.getKey(), oldLogs.get(entry.getKey()));
+
+            onStringDifference(newPodLogs, oldPodLogs);
+        } else {
+            onLines(newPodLogs);
+        }
+    }
+
+    private String formatPodLogs(String podName, String log) {
+        return String.format("[%s] %s", podName, log);
+    }
+
+    private record PodContainer(String pod, String container) {
+    }
+}
@@ -21,4 +21,17 @@ public abstract class ServiceLoggingHandler extends LoggingHandler {
         return service.getConfiguration().isTrue(Configuration.Property.LOG_ENABLE);
     }
 
+    @Override
+    protected LogBuffer createLogBuffer() {
+        Configuration configuration = service.getConfiguration();
+        int maxLines = configuration.getAsInteger(Configuration.Property.LOG_BUFFER_MAX_LINES, LogBuffer.UNLIMITED);
+        int maxBytes = configuration.getAsInteger(Configuration.Property.LOG_BUFFER_MAX_BYTES, LogBuffer.UNLIMITED);
+        if (maxLines == LogBuffer.UNLIMITED && maxBytes == LogBuffer.UNLIMITED) {
+            return LogBuffer.unbounded();
+        }
+
+        boolean spillToDisk = configuration.isTrue(Configuration.Property.LOG_BUFFER_SPILL_TO_DISK);
+        return LogBuffer.bounded(maxLines, maxBytes, spillToDisk ? service.getServiceFolder() : null);
+    }
+
 }
@@ -0,0 +1,13 @@
+package io.quarkus.test.metrics;
+
+import java.time.Duration;
+
+/**
+ * Memory and CPU usage of a process.
+ *
+ * @param elapsed time since the process was launched.
+ * @param rssBytes resident set size, or -1 when it can't be read (only Linux `/proc` is supported).
+ * @param cpuTime CPU time (user and system) used by the process so far, or {@link Duration#ZERO} when not available.
+ */
+public record FootprintSample(Duration elapsed, long rssBytes, Duration cpuTime) {
+}
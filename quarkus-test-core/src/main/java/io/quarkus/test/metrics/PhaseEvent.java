@@ -0,0 +1,28 @@
+package io.quarkus.test.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of a framework phase, so the phases can be correlated with the rest of a JFR recording of the tests.
+ */
+@Name("io.quarkus.test.Phase")
+@Label("Test Framework Phase")
+@Category("Quarkus Test Framework")
+@Description("Phase of a scenario or a service, for example, an artifact build or a service startup")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+
+    @Label("Scenario")
+    String scenario;
+
+    @Label("Service")
+    String service;
+
+    @Label("Phase")
+    String phase;
+}
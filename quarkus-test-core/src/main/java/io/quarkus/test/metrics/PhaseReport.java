@@ -0,0 +1,132 @@
+package io.quarkus.test.metrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.quarkus.test.logging.Log;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Phases aggregated per scenario, service and phase, written as JSON and in the Prometheus text format.
+ * The files are named after the PID, so the forks of the same run don't overwrite each other.
+ */
+final class PhaseReport {
+
+    private static final String METRIC = "quarkus_test_phase_duration_seconds";
+    private static final String JOB = "quarkus-test-framework";
+    private static final Duration PUSH_TIMEOUT = Duration.ofSeconds(10);
+    private static final long PID = ProcessHandle.current().pid();
+
+    private final Map<Key, Stats> phases = new LinkedHashMap<>();
+
+    synchronized void record(String scenario, String service, String phase, Duration duration) {
+        phases.computeIfAbsent(new Key(scenario, service, phase), key -> new Stats()).add(duration);
+    }
+
+    void write(Path folder) {
+        try {
+            Files.createDirectories(folder);
+            writeAtomically(folder.resolve("phase-timings-" + PID + ".json"), toJson());
+            writeAtomically(folder.resolve("phase-timings-" + PID + ".prom"), toPrometheusText());
+        } catch (IOException e) {
+            Log.warn("Could not write the phase timings report to %s. Caused by: %s", folder, e.getMessage());
+        }
+    }
+
+    void push(String endpoint) {
+        URI uri = URI.create(endpoint.replaceAll("/+$", "") + "/metrics/job/" + JOB + "/instance/" + PID);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(PUSH_TIMEOUT)
+                .header("Content-Type", "text/plain; version=0.0.4")
+                .PUT(HttpRequest.BodyPublishers.ofString(toPrometheusText()))
+                .build();
+        try {
+            HttpResponse<Void> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 300) {
+                Log.warn("Could not push the phase timings to %s. Status code: %s", uri, response.statusCode());
+            }
+        } catch (IOException e) {
+            Log.warn("Could not push the phase timings to %s. Caused by: %s", uri, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    synchronized String toJson() {
+        JsonArray entries = new JsonArray();
+        phases.forEach((key, stats) -> entries.add(new JsonObject()
+                .put("scenario", key.scenario())
+                .put("service", key.service())
+                .put("phase", key.phase())
+                .put("count", stats.count)
+                .put("totalMillis", stats.total.toMillis())
+                .put("maxMillis", stats.max.toMillis())));
+        return new JsonObject().put("pid", PID).put("phases", entries).encodePrettily();
+    }
+
+    synchronized String toPrometheusText() {
+        List<String> lines = new ArrayList<>();
+        lines.add("# HELP " + METRIC + " Duration of the phases of the Quarkus test framework");
+        lines.add("# TYPE " + METRIC + " summary");
+        phases.forEach((key, stats) -> {
+            lines.add(METRIC + "_count" + labels(key) + " " + stats.count);
+            lines.add(METRIC + "_sum" + labels(key) + " " + seconds(stats.total));
+        });
+        lines.add("# HELP " + METRIC + "_max Longest duration of the phases of the Quarkus test framework");
+        lines.add("# TYPE " + METRIC + "_max gauge");
+        phases.forEach((key, stats) -> lines.add(METRIC + "_max" + labels(key) + " " + seconds(stats.max)));
+        return String.join("\n", lines) + "\n";
+    }
+
+    private static void writeAtomically(Path file, String content) throws IOException {
+        // the textfile collector must never read a partially written file
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String labels(Key key) {
+        return String.format("{scenario=\"%s\",service=\"%s\",phase=\"%s\"}",
+                escape(key.scenario()), escape(key.service()), escape(key.phase()));
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(Duration duration) {
+        return String.format(Locale.ROOT, "%.3f", duration.toNanos() / 1_000_000_000.0);
+    }
+
+    private record Key(String scenario, String service, String phase) {
+    }
+
+    private static final class Stats {
+
+        private long count;
+        private Duration total = Duration.ZERO;
+        private Duration max = Duration.ZERO;
+
+        private void add(Duration duration) {
+            count++;
+            total = total.plus(duration);
+            if (duration.compareTo(max) > 0) {
+                max = duration;
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.quarkus.test.metrics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.quarkus.test.bootstrap.ScenarioContext;
+import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.configuration.PropertyLookup;
+
+/**
+ * Times the phases of the scenarios and services (builds, startups, readiness waits, shutdowns...). Every phase emits
+ * a JFR event, which is only recorded when a JFR recording is running. When `ts.global.metrics.enabled` is true, the
+ * phases are also aggregated per scenario, service and phase into a JSON report and a Prometheus textfile in
+ * `ts.global.metrics.report.dir`, which are pushed to `ts.global.metrics.export.prometheus.endpoint` when set.
+ *
+ * Usage:
+ *
+ * <pre>
+ * try (var phase = PhaseTimings.start(serviceContext, "service.start")) {
+ *     // ...
+ * }
+ * </pre>
+ */
+public final class PhaseTimings {
+
+    private static final String NO_SCENARIO = "";
+    private static final String NO_SERVICE = "";
+    private static final PropertyLookup ENABLED = new PropertyLookup(
+            Configuration.Property.METRICS_EXTENSION_ENABLED_PROPERTY.getName(), Boolean.FALSE.toString());
+    private static final PropertyLookup REPORT_DIR = new PropertyLookup(
+            Configuration.Property.METRICS_REPORT_DIR.getName(), "target/metrics");
+    private static final PropertyLookup PROMETHEUS_ENDPOINT = new PropertyLookup(
+            Configuration.Property.METRICS_EXPORT_PROMETHEUS_PROPERTY.getName());
+    private static final boolean REPORT_ENABLED = ENABLED.getAsBoolean();
+    private static final PhaseReport REPORT = new PhaseReport();
+
+    private PhaseTimings() {
+
+    }
+
+    public static Phase start(ServiceContext service, String phase) {
+        ScenarioContext scenario = service.getScenarioContext();
+        String scenarioName = scenario == null ? NO_SCENARIO : scenario.getRunningTestClassName();
+        return start(scenarioName, Objects.toString(service.getName(), NO_SERVICE), phase);
+    }
+
+    public static Phase start(ScenarioContext scenario, String phase) {
+        return start(scenario.getRunningTestClassName(), NO_SERVICE, phase);
+    }
+
+    public static Phase start(String scenario, String service, String phase) {
+        return new Phase(scenario, service, phase);
+    }
+
+    /**
+     * Writes the report with the phases recorded so far by this JVM, and pushes it when an endpoint is configured.
+     */
+    public static void writeReport() {
+        if (!REPORT_ENABLED) {
+            return;
+        }
+
+        REPORT.write(Path.of(REPORT_DIR.get()));
+        String endpoint = PROMETHEUS_ENDPOINT.get();
+        if (StringUtils.isNotEmpty(endpoint)) {
+            REPORT.push(endpoint);
+        }
+    }
+
+    public static final class Phase implements AutoCloseable {
+
+        private final String scenario;
+        private final String service;
+        private final String phase;
+        private final long startNanos = System.nanoTime();
+        private final PhaseEvent event = new PhaseEvent();
+        private boolean closed;
+
+        private Phase(String scenario, String service, String phase) {
+            this.scenario = scenario;
+            this.service = service;
+            this.phase = phase;
+            event.begin();
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            if (event.shouldCommit()) {
+                event.scenario = scenario;
+                event.service = service;
+                event.phase = phase;
+                event.commit();
+            }
+
+            if (REPORT_ENABLED) {
+                REPORT.record(scenario, service, phase, Duration.ofNanos(System.nanoTime() - startNanos));
+            }
+        }
+    }
+}
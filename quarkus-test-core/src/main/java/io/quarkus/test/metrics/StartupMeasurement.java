@@ -0,0 +1,208 @@
+package io.quarkus.test.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import io.quarkus.test.utils.DaemonThreadFactory;
+
+/**
+ * Startup times and footprint of a launched process: the time to spawn the process, the time until the application
+ * logs the expected output (by default, "Installed features"), the time until the first HTTP response, and the memory
+ * (RSS) and CPU time used by the process. The footprint is sampled once the first HTTP response is received, and
+ * periodically during the whole process lifetime when a sampling interval is set.
+ *
+ * The first HTTP response is only awaited when it was requested, see {@link #FIRST_RESPONSE_REQUESTED}, as it sends
+ * requests to the application.
+ *
+ * All the times are measured from the moment the process was about to be launched.
+ */
+public final class StartupMeasurement {
+
+    /**
+     * Key of the service context store that requests the first HTTP response to be measured, set while measuring cold
+     * starts. It can also be requested by `ts.<service>.startup.measurement.enabled`.
+     */
+    public static final String FIRST_RESPONSE_REQUESTED = "startup-measurement.first-response-requested";
+
+    private static final ScheduledExecutorService SAMPLER = Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("footprint-sampler"));
+    private static final String RSS_FIELD = "VmRSS:";
+    private static final long KIB = 1024;
+    private static final long NO_RSS = -1;
+    private static final String NOT_AVAILABLE = "n/a";
+
+    private final ProcessHandle process;
+    private final long launchNanos;
+    private final Duration spawnTime;
+    private final List<FootprintSample> samples = new CopyOnWriteArrayList<>();
+    private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+    private volatile Duration timeToStartedOutput;
+    private volatile Duration timeToFirstResponse;
+    private volatile FootprintSample startupFootprint;
+
+    StartupMeasurement(ProcessHandle process, long launchNanos, Duration spawnTime) {
+        this.process = process;
+        this.launchNanos = launchNanos;
+        this.spawnTime = spawnTime;
+    }
+
+    /**
+     * @param process the launched process.
+     * @param launchNanos {@link System#nanoTime()} right before the process was launched.
+     * @param spawnedNanos {@link System#nanoTime()} right after the process was launched.
+     */
+    public static StartupMeasurement launched(ProcessHandle process, long launchNanos, long spawnedNanos) {
+        var measurement = new StartupMeasurement(process, launchNanos, Duration.ofNanos(spawnedNanos - launchNanos));
+        // nothing else to measure once the process exits (e.g. CLI applications)
+        process.onExit().thenRun(measurement::stop);
+        return measurement;
+    }
+
+    /**
+     * @param event completed once the application logs the expected output.
+     */
+    public void onStartedOutput(CompletableFuture<?> event) {
+        track(event);
+        event.thenRun(() -> timeToStartedOutput = elapsed());
+    }
+
+    /**
+     * @param event completed once the application sends the first HTTP response.
+     */
+    public void onFirstResponse(CompletableFuture<?> event) {
+        track(event);
+        event.thenRun(() -> {
+            timeToFirstResponse = elapsed();
+            startupFootprint = sample();
+            firstResponse.complete(null);
+        });
+    }
+
+    /**
+     * Samples the footprint of the process every interval until the measurement is stopped.
+     */
+    public void sampleEvery(Duration interval) {
+        track(SAMPLER.scheduleAtFixedRate(() -> {
+            if (process.isAlive()) {
+                samples.add(sample());
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Waits until the first HTTP response is received.
+     *
+     * @return false if no HTTP response was received in time.
+     */
+    public boolean awaitFirstResponse(Duration timeout) {
+        try {
+            firstResponse.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops measuring and cancels the pending events. The measured values are kept.
+     */
+    public void stop() {
+        tasks.forEach(task -> task.cancel(false));
+        tasks.clear();
+    }
+
+    public long getPid() {
+        return process.pid();
+    }
+
+    public Duration getSpawnTime() {
+        return spawnTime;
+    }
+
+    public Optional<Duration> getTimeToStartedOutput() {
+        return Optional.ofNullable(timeToStartedOutput);
+    }
+
+    public Optional<Duration> getTimeToFirstResponse() {
+        return Optional.ofNullable(timeToFirstResponse);
+    }
+
+    /**
+     * @return footprint of the process when the first HTTP response was received.
+     */
+    public Optional<FootprintSample> getStartupFootprint() {
+        return Optional.ofNullable(startupFootprint);
+    }
+
+    /**
+     * @return footprint samples taken every sampling interval, empty if no interval was set.
+     */
+    public List<FootprintSample> getSamples() {
+        return List.copyOf(samples);
+    }
+
+    /**
+     * @return the highest RSS of all the samples, including the startup footprint.
+     */
+    public OptionalLong getPeakRss() {
+        return Stream.concat(getStartupFootprint().stream(), samples.stream())
+                .mapToLong(FootprintSample::rssBytes)
+                .filter(rss -> rss != NO_RSS)
+                .max();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("pid: %s, spawn: %sms, started output: %s, first response: %s, peak RSS: %s",
+                getPid(), spawnTime.toMillis(), toMillis(getTimeToStartedOutput()), toMillis(getTimeToFirstResponse()),
+                getPeakRss().isPresent() ? getPeakRss().getAsLong() / KIB / KIB + "MiB" : NOT_AVAILABLE);
+    }
+
+    private void track(Future<?> task) {
+        tasks.add(task);
+    }
+
+    private static String toMillis(Optional<Duration> duration) {
+        return duration.map(value -> value.toMillis() + "ms").orElse(NOT_AVAILABLE);
+    }
+
+    private Duration elapsed() {
+        return Duration.ofNanos(System.nanoTime() - launchNanos);
+    }
+
+    private FootprintSample sample() {
+        return new FootprintSample(elapsed(), readRss(process.pid()),
+                process.info().totalCpuDuration().orElse(Duration.ZERO));
+    }
+
+    private static long readRss(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith(RSS_FIELD))
+                    .findFirst()
+                    // e.g. "VmRSS:     123456 kB"
+                    .map(line -> Long.parseLong(line.substring(RSS_FIELD.length()).replace("kB", "").trim()) * KIB)
+                    .orElse(NO_RSS);
+        } catch (IOException | RuntimeException e) {
+            // not Linux or the process is gone
+            return NO_RSS;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.quarkus.test.configuration.Configuration;
+
+/**
+ * Percentiles of the startup measurements of several cold starts of the same service.
+ * Regression thresholds are checked against a percentile (90th by default) and configured by:
+ * `ts.<service>.startup.threshold.percentile`, `ts.<service>.startup.threshold.time-to-first-response` (duration)
+ * and `ts.<service>.startup.threshold.rss-mb` (RSS after the first HTTP response, in MiB).
+ */
+public final class StartupStatistics {
+
+    private static final double DEFAULT_THRESHOLD_PERCENTILE = 90;
+    private static final long MIB = 1024 * 1024;
+    private static final List<Double> SUMMARY_PERCENTILES = List.of(50.0, 90.0, 99.0);
+
+    public enum Metric {
+        SPAWN_TIME("ms", m -> Optional.of(m.getSpawnTime().toMillis())),
+        TIME_TO_STARTED_OUTPUT("ms", m -> m.getTimeToStartedOutput().map(Duration::toMillis)),
+        TIME_TO_FIRST_RESPONSE("ms", m -> m.getTimeToFirstResponse().map(Duration::toMillis)),
+        STARTUP_RSS("B", m -> m.getStartupFootprint().map(FootprintSample::rssBytes).filter(rss -> rss >= 0)),
+        STARTUP_CPU_TIME("ms", m -> m.getStartupFootprint().map(sample -> sample.cpuTime().toMillis()));
+
+        private final String unit;
+        private final Function<StartupMeasurement, Optional<Long>> value;
+
+        Metric(String unit, Function<StartupMeasurement, Optional<Long>> value) {
+            this.unit = unit;
+            this.value = value;
+        }
+
+        public String getUnit() {
+            return unit;
+        }
+    }
+
+    private final List<StartupMeasurement> measurements;
+
+    public StartupStatistics(List<StartupMeasurement> measurements) {
+        this.measurements = List.copyOf(measurements);
+    }
+
+    public List<StartupMeasurement> getMeasurements() {
+        return measurements;
+    }
+
+    /**
+     * @param percentile from 0 to 100, computed with the nearest-rank method.
+     * @return the percentile of the metric, empty when no measurement has the metric.
+     */
+    public OptionalLong percentile(Metric metric, double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, but was " + percentile);
+        }
+
+        long[] values = measurements.stream()
+                .map(metric.value)
+                .flatMap(Optional::stream)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        if (values.length == 0) {
+            return OptionalLong.empty();
+        }
+
+        int rank = (int) Math.ceil(percentile / 100 * values.length);
+        return OptionalLong.of(values[Math.max(rank, 1) - 1]);
+    }
+
+    /**
+     * Fails the test when the percentile of the metric is greater than the maximum or when it wasn't measured.
+     */
+    public StartupStatistics assertPercentileBelow(Metric metric, double percentile, long max) {
+        OptionalLong actual = percentile(metric, percentile);
+        if (actual.isEmpty()) {
+            fail(String.format("%s was not measured in any of the %s startups", metric, measurements.size()));
+        } else if (actual.getAsLong() > max) {
+            fail(String.format("Startup regression: p%s of %s is %s%s, but the threshold is %s%s", percentile, metric,
+                    actual.getAsLong(), metric.getUnit(), max, metric.getUnit()));
+        }
+
+        return this;
+    }
+
+    /**
+     * Checks the thresholds configured for the service, if any.
+     */
+    public StartupStatistics verifyThresholds(Configuration configuration) {
+        double percentile = configuration.getAsDouble(Configuration.Property.STARTUP_THRESHOLD_PERCENTILE,
+                DEFAULT_THRESHOLD_PERCENTILE);
+        Duration maxTimeToFirstResponse = configuration
+                .getAsDuration(Configuration.Property.STARTUP_THRESHOLD_TIME_TO_FIRST_RESPONSE, null);
+        if (maxTimeToFirstResponse != null) {
+            assertPercentileBelow(Metric.TIME_TO_FIRST_RESPONSE, percentile, maxTimeToFirstResponse.toMillis());
+        }
+
+        int maxRssMb = configuration.getAsInteger(Configuration.Property.STARTUP_THRESHOLD_RSS_MB, -1);
+        if (maxRssMb >= 0) {
+            assertPercentileBelow(Metric.STARTUP_RSS, percentile, maxRssMb * MIB);
+        }
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return Stream.of(Metric.values())
+                .filter(metric -> percentile(metric, 0).isPresent())
+                .map(this::summary)
+                .collect(Collectors.joining(", ", measurements.size() + " startups: ", ""));
+    }
+
+    private String summary(Metric metric) {
+        String percentiles = Stream.concat(SUMMARY_PERCENTILES.stream(), Stream.of(100.0))
+                .map(p -> (p == 100 ? "max" : "p" + p.intValue()) + "=" + percentile(metric, p).getAsLong())
+                .collect(Collectors.joining(" "));
+        return String.format("%s[%s]%s", metric, percentiles, metric.getUnit());
+    }
+}
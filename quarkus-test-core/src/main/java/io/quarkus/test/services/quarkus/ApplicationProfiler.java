@@ -0,0 +1,107 @@
+package io.quarkus.test.services.quarkus;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.FileUtils;
+
+/**
+ * Profiles the applications launched as local processes, as configured by `ts.<service>.profiling`:
+ * - `jfr`: starts a JFR recording with the `profile` settings. Native applications are built with the JFR support.
+ * - `async-profiler`: loads the async-profiler agent from `ts.<service>.profiling.async-profiler.path`, sampling the
+ * event configured by `ts.<service>.profiling.async-profiler.event` (`cpu` by default) into an HTML flamegraph.
+ * Only JVM applications are supported.
+ *
+ * The recordings are written to the `profiling` folder of the service when the application stops, one per launch.
+ * The service folder is kept when the scenario fails.
+ */
+final class ApplicationProfiler {
+
+    static final String JFR = "jfr";
+    static final String ASYNC_PROFILER = "async-profiler";
+
+    private static final String FOLDER = "profiling";
+    private static final String NATIVE_MONITORING_PROPERTY = "quarkus.native.monitoring";
+    private static final String DEFAULT_ASYNC_PROFILER_EVENT = "cpu";
+
+    private final ServiceContext context;
+    private final String profiler;
+    private int launches;
+
+    private ApplicationProfiler(ServiceContext context, String profiler) {
+        this.context = context;
+        this.profiler = profiler;
+    }
+
+    static Optional<ApplicationProfiler> of(ServiceContext context) {
+        String profiler = StringUtils.trimToEmpty(
+                context.getOwner().getConfiguration().get(Configuration.Property.SERVICE_PROFILING));
+        if (profiler.isEmpty()) {
+            return Optional.empty();
+        } else if (!profiler.equals(JFR) && !profiler.equals(ASYNC_PROFILER)) {
+            throw new IllegalArgumentException(String.format("Unknown profiler '%s', valid values are: %s, %s",
+                    profiler, JFR, ASYNC_PROFILER));
+        }
+
+        return Optional.of(new ApplicationProfiler(context, profiler));
+    }
+
+    /**
+     * Native applications only support JFR when it's enabled at build time.
+     */
+    void configureNativeBuild() {
+        if (!profiler.equals(JFR)) {
+            return;
+        }
+
+        String monitoring = context.getOwner().getProperty(NATIVE_MONITORING_PROPERTY).orElse(StringUtils.EMPTY);
+        if (!Arrays.asList(monitoring.split(",")).contains(JFR)) {
+            context.withTestScopeConfigProperty(NATIVE_MONITORING_PROPERTY,
+                    monitoring.isEmpty() ? JFR : monitoring + "," + JFR);
+        }
+    }
+
+    /**
+     * @return the options to add to the command of the application, before the application arguments.
+     */
+    List<String> commandOptions(boolean nativeMode) {
+        Path folder = getFolder();
+        FileUtils.createDirectoryIfDoesNotExist(folder);
+        launches++;
+        if (profiler.equals(JFR)) {
+            Path recording = folder.resolve("recording-" + launches + ".jfr");
+            return List.of("-XX:StartFlightRecording=settings=profile,dumponexit=true,filename=" + recording);
+        } else if (nativeMode) {
+            Log.warn(context.getOwner(), "The async-profiler agent can't be loaded by native applications, use %s instead",
+                    JFR);
+            return List.of();
+        }
+
+        String library = context.getOwner().getConfiguration()
+                .get(Configuration.Property.SERVICE_PROFILING_ASYNC_PROFILER_PATH);
+        if (StringUtils.isBlank(library)) {
+            throw new IllegalStateException("The async-profiler library (libasyncProfiler.so) must be set using "
+                    + Configuration.Property.SERVICE_PROFILING_ASYNC_PROFILER_PATH.getName(context.getName()));
+        }
+
+        String event = context.getOwner().getConfiguration()
+                .getOrDefault(Configuration.Property.SERVICE_PROFILING_ASYNC_PROFILER_EVENT, DEFAULT_ASYNC_PROFILER_EVENT);
+        Path flamegraph = folder.resolve("flamegraph-" + launches + ".html");
+        return List.of("-agentpath:" + library + "=start,event=" + event + ",file=" + flamegraph);
+    }
+
+    void onApplicationStopped() {
+        Log.info(context.getOwner(), "Profiling recordings (%s) are in %s", profiler, getFolder());
+    }
+
+    private Path getFolder() {
+        return context.getServiceFolder().resolve(FOLDER).toAbsolutePath();
+    }
+}
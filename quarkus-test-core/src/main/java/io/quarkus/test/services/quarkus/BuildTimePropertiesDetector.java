@@ -0,0 +1,187 @@
+package io.quarkus.test.services.quarkus;
+
+import static java.util.stream.Collectors.toSet;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.apache.commons.io.IOUtils;
+
+import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.ReflectionUtils;
+import io.smallrye.config.SecretKeys;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * Detects the build-time configuration properties, caching the results for the whole JVM. The configuration reader
+ * (which scans all the config roots of the classpath) is created once per class loader, the build-time properties of
+ * the extensions deployment modules are read once, and the detected properties are reused by all the services and
+ * restarts with the same names of Quarkus properties. The build-time keys (including the named config groups, like
+ * `quarkus.datasource."name".*`) and the relocations only depend on which Quarkus properties are set, not on their
+ * values nor on the application properties, so the services of a scenario usually share the same entry.
+ * The caches must not strongly reference their class loader, so that it can still be unloaded: the detected properties
+ * are plain strings and the configuration reader, which holds classes of the class loader, is softly referenced.
+ */
+final class BuildTimePropertiesDetector {
+
+    private static final Map<ClassLoader, ClassLoaderCache> CACHES = new WeakHashMap<>();
+    private static final String QUARKUS_PREFIX = "quarkus.";
+    private static final int MAX_DETECTED_PER_CLASS_LOADER = 32;
+
+    private static Set<String> deploymentBuildProps;
+
+    private BuildTimePropertiesDetector() {
+
+    }
+
+    static Set<String> detect(ClassLoader classLoader, Map<String, String> computedProperties) {
+        Set<String> quarkusPropertyNames = computedProperties.keySet().stream()
+                .filter(BuildTimePropertiesDetector::isQuarkusProperty)
+                .collect(toUnmodifiableSet());
+        return getCache(classLoader).detect(classLoader, quarkusPropertyNames, computedProperties);
+    }
+
+    /**
+     * Also matches the properties of a profile, like `%dev.quarkus.http.port`.
+     */
+    private static boolean isQuarkusProperty(String name) {
+        return name.startsWith(QUARKUS_PREFIX) || name.startsWith("%") && name.contains("." + QUARKUS_PREFIX);
+    }
+
+    private static synchronized ClassLoaderCache getCache(ClassLoader classLoader) {
+        return CACHES.computeIfAbsent(classLoader, key -> new ClassLoaderCache());
+    }
+
+    private static Set<String> readBuildTimeProperties(BuildTimeConfigurationReader buildTimeConfigReader,
+            Map<String, String> computedProperties) {
+        var buildSystemProps = new Properties();
+        buildSystemProps.putAll(computedProperties);
+
+        // this must always be set as Quarkus sets and config expansions would fail
+        buildSystemProps.put("platform.quarkus.native.builder-image", "<<ignored>>");
+
+        SmallRyeConfig aConfig;
+        try {
+            // current signature
+            aConfig = (SmallRyeConfig) ReflectionUtils.invokeMethod(buildTimeConfigReader, "initConfiguration",
+                    buildSystemProps, new Properties(), Map.of());
+        } catch (Throwable t) {
+            try {
+                // signature before 3.26
+                aConfig = (SmallRyeConfig) ReflectionUtils.invokeMethod(buildTimeConfigReader, "initConfiguration",
+                        LaunchMode.NORMAL, buildSystemProps, new Properties(), Map.of());
+            } catch (Throwable t2) {
+                throw new IllegalStateException(BuildTimeConfigurationReader.class.getName()
+                        + "#initConfiguration method signature has changed, please adapt this implementation");
+            }
+        }
+        var config = aConfig;
+
+        var readResult = buildTimeConfigReader.readConfiguration(config);
+        var buildTimeConfigKeys = new HashSet<String>();
+        buildTimeConfigKeys.addAll(readResult.getAllBuildTimeValues().keySet());
+        buildTimeConfigKeys.addAll(readResult.getBuildTimeRunTimeValues().keySet());
+        buildTimeConfigKeys.addAll(getDeploymentBuildProps());
+
+        // handle relocations - if relocation processor is applied, we won't find original config property
+        // in the build-time or build-time-runtime-fixed properties as we can only find there the relocated one;
+        // we can safely guess that secret keys are not build-time config props,
+        // but we don't create config ourselves, hence unlock keys to avoid build failures
+        var relocatedBuildTimeProps = SecretKeys.doUnlocked(() -> buildSystemProps
+                .stringPropertyNames()
+                .stream()
+                // only the Quarkus properties are relocated, this also keeps the result cacheable by their names
+                .filter(BuildTimePropertiesDetector::isQuarkusProperty)
+                .filter(p -> !buildTimeConfigKeys.contains(p))
+                .filter(p -> !p.equals(config.getConfigValue(p).getName()))
+                .filter(p -> buildTimeConfigKeys.contains(config.getConfigValue(p).getName()))
+                .collect(toSet()));
+        buildTimeConfigKeys.addAll(relocatedBuildTimeProps);
+
+        return Set.copyOf(buildTimeConfigKeys);
+    }
+
+    /**
+     * Gathers the build-time config keys from extensions deployment modules.
+     * This won't work for named config keys (without regex), but we can tweak that in the future if we need to.
+     */
+    private static synchronized Set<String> getDeploymentBuildProps() {
+        if (deploymentBuildProps == null) {
+            try {
+                Set<String> props = IOUtils
+                        .readLines(BuildTimePropertiesDetector.class
+                                .getResourceAsStream("/deployment-build-props.txt"), StandardCharsets.UTF_8)
+                        .stream()
+                        .map(String::trim)
+                        .collect(toSet());
+                if (props.size() <= 1) {
+                    throw new RuntimeException("deployment-build-props.txt couldn't be properly loaded");
+                }
+
+                deploymentBuildProps = props;
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to detect build time properties", e);
+            }
+        }
+
+        return deploymentBuildProps;
+    }
+
+    private static final class ClassLoaderCache {
+
+        // the oldest entries are evicted, so unusual property names do not grow the cache
+        private final Map<Set<String>, Set<String>> detected = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Set<String>, Set<String>> eldest) {
+                return size() > MAX_DETECTED_PER_CLASS_LOADER;
+            }
+        };
+        private SoftReference<BuildTimeConfigurationReader> reader = new SoftReference<>(null);
+        private long hits;
+        private long misses;
+
+        /**
+         * Synchronized, as the reader is not meant to be used concurrently.
+         */
+        private synchronized Set<String> detect(ClassLoader classLoader, Set<String> quarkusPropertyNames,
+                Map<String, String> computedProperties) {
+            Set<String> cached = detected.get(quarkusPropertyNames);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+
+            misses++;
+            Log.debug("Detecting build time properties of %s Quarkus properties (cache hits: %s, misses: %s)",
+                    quarkusPropertyNames.size(), hits, misses);
+            Set<String> buildTimeProperties = read(classLoader, computedProperties);
+            detected.put(quarkusPropertyNames, buildTimeProperties);
+            return buildTimeProperties;
+        }
+
+        private Set<String> read(ClassLoader classLoader, Map<String, String> computedProperties) {
+            BuildTimeConfigurationReader current = reader.get();
+            if (current == null) {
+                try {
+                    current = new BuildTimeConfigurationReader(classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw new RuntimeException("Failed to detect build time properties", e);
+                }
+
+                reader = new SoftReference<>(current);
+            }
+
+            return readBuildTimeProperties(current, computedProperties);
+        }
+    }
+}
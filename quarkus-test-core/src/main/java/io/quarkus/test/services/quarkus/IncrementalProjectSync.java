@@ -0,0 +1,117 @@
+package io.quarkus.test.services.quarkus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.FileUtils;
+
+/**
+ * Synchronizes a freshly prepared (staged) project into the project of the previous build, so only the files that
+ * changed are replaced and the others keep their timestamps. This way Maven incremental compilation and the state in
+ * the preserved folders (for example, `target`) are reused instead of rebuilding the project from scratch.
+ * Staged files are moved (renamed) into place, so the staged folder must be in the same file system as the project.
+ */
+final class IncrementalProjectSync {
+
+    private IncrementalProjectSync() {
+
+    }
+
+    /**
+     * @param staged the prepared project, it's deleted once synchronized.
+     * @param project the project to update, created when it doesn't exist.
+     * @param preserved names of the top-level entries of the project that are kept as they are.
+     */
+    static void sync(Path staged, Path project, Set<String> preserved) {
+        try {
+            Set<Path> stagedEntries = relativeEntries(staged, Set.of());
+            int changed = 0;
+            // parents first, so folders replacing files (and the other way round) are handled in order
+            for (Path entry : stagedEntries.stream().sorted(Comparator.comparingInt(Path::getNameCount)).toList()) {
+                Path source = staged.resolve(entry);
+                Path target = project.resolve(entry);
+                if (Files.isDirectory(source)) {
+                    if (!Files.isDirectory(target)) {
+                        FileUtils.deletePath(target);
+                        Files.createDirectories(target);
+                    }
+                } else if (!isSameFile(source, target)) {
+                    if (Files.isDirectory(target)) {
+                        FileUtils.deletePath(target);
+                    }
+
+                    Files.createDirectories(target.getParent());
+                    Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+                    changed++;
+                }
+            }
+
+            // remove what is no longer part of the project, deepest entries first
+            List<Path> obsolete = relativeEntries(project, preserved).stream()
+                    .filter(entry -> !stagedEntries.contains(entry))
+                    .sorted(Comparator.comparingInt(Path::getNameCount).reversed())
+                    .collect(Collectors.toList());
+            obsolete.forEach(entry -> FileUtils.deletePath(project.resolve(entry)));
+
+            Log.debug("Synchronized project %s: %s files changed and %s entries removed", project, changed,
+                    obsolete.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to synchronize project " + project, e);
+        } finally {
+            FileUtils.deletePath(staged);
+        }
+    }
+
+    private static Set<Path> relativeEntries(Path folder, Set<String> skipped) throws IOException {
+        Set<Path> entries = new HashSet<>();
+        if (!Files.exists(folder)) {
+            return entries;
+        }
+
+        Files.walkFileTree(folder, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (dir.equals(folder)) {
+                    return FileVisitResult.CONTINUE;
+                }
+
+                Path entry = folder.relativize(dir);
+                if (entry.getNameCount() == 1 && skipped.contains(entry.toString())) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+
+                entries.add(entry);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                Path entry = folder.relativize(file);
+                if (entry.getNameCount() > 1 || !skipped.contains(entry.toString())) {
+                    entries.add(entry);
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return entries;
+    }
+
+    private static boolean isSameFile(Path source, Path target) throws IOException {
+        return Files.isRegularFile(target)
+                && Files.size(source) == Files.size(target)
+                && Files.mismatch(source, target) == -1;
+    }
+}
@@ -16,7 +16,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -24,6 +26,7 @@ import io.quarkus.test.bootstrap.Protocol;
 import io.quarkus.test.logging.FileServiceLoggingHandler;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
+import io.quarkus.test.metrics.StartupMeasurement;
 import io.quarkus.test.services.URILike;
 import io.quarkus.test.services.quarkus.model.QuarkusProperties;
 import io.quarkus.test.utils.ProcessBuilderProvider;
@@ -42,6 +45,7 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
     private final File logOutputFile;
     private Process process;
     private LoggingHandler loggingHandler;
+    private StartupMeasurement startupMeasurement;
     private int assignedHttpPort;
     private int assignedHttpsPort;
     private int assignedGrpcPort;
@@ -73,10 +77,13 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
 
             onPreStart(pb);
 
+            long launchNanos = System.nanoTime();
             process = pb.start();
+            long spawnedNanos = System.nanoTime();
 
             loggingHandler = new FileServiceLoggingHandler(model.getContext().getOwner(), logOutputFile);
             loggingHandler.startWatching();
+            startupMeasurement = measureStartup(process, launchNanos, spawnedNanos);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -88,6 +95,10 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
             loggingHandler.stopWatching();
         }
 
+        if (startupMeasurement != null) {
+            startupMeasurement.stop();
+        }
+
         ProcessUtils.destroy(process);
     }
 
@@ -116,6 +127,21 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
+    @Override
+    public Optional<StartupMeasurement> getStartupMeasurement() {
+        return Optional.ofNullable(startupMeasurement);
+    }
+
+    @Override
+    public boolean isStartupMeasured() {
+        return true;
+    }
+
     @Override
     public void restart() {
         stop();
@@ -167,7 +193,7 @@ public abstract class LocalhostQuarkusApplicationManagedResource extends Quarkus
         return model.getContext().getOwner().getProperty(property)
                 .filter(StringUtils::isNotEmpty)
                 .map(Integer::parseInt)
-                .orElseGet(SocketUtils::findAvailablePort);
+                .orElseGet(() -> SocketUtils.findAvailablePort(model.getContext().getOwner()));
     }
 
     private List<String> getPropertiesForCommand() {
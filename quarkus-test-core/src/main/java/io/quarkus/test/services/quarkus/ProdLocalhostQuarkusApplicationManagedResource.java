@@ -18,10 +18,28 @@ public class ProdLocalhostQuarkusApplicationManagedResource extends LocalhostQua
     private static final String ENABLE_PREVIEW = "--enable-preview";
 
     private final ProdQuarkusApplicationManagedResourceBuilder model;
+    private final ApplicationProfiler profiler;
 
     public ProdLocalhostQuarkusApplicationManagedResource(ProdQuarkusApplicationManagedResourceBuilder model) {
         super(model);
         this.model = model;
+        this.profiler = ApplicationProfiler.of(model.getContext()).orElse(null);
+    }
+
+    @Override
+    public void onPreBuild() {
+        super.onPreBuild();
+        if (profiler != null && isNativeTest()) {
+            profiler.configureNativeBuild();
+        }
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        if (profiler != null) {
+            profiler.onApplicationStopped();
+        }
     }
 
     protected List<String> prepareCommand(List<String> systemProperties) {
@@ -40,11 +58,17 @@ public class ProdLocalhostQuarkusApplicationManagedResource extends LocalhostQua
                 var suspend = debugOptions.suspend() ? "y" : "n";
                 command.add("-agentlib:jdwp=transport=dt_socket,address=localhost:5005,server=y,suspend=" + suspend);
             }
+            if (profiler != null) {
+                command.addAll(profiler.commandOptions(false));
+            }
             command.add("-jar");
             command.add(model.getArtifact().toAbsolutePath().toString());
         } else {
             command.add(model.getArtifact().toAbsolutePath().toString());
             command.addAll(systemProperties);
+            if (profiler != null) {
+                command.addAll(profiler.commandOptions(true));
+            }
         }
         command.addAll(Arrays.asList(cmdArgs));
 
@@ -3,7 +3,9 @@ package io.quarkus.test.services.quarkus;
 import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletableFuture;
 
 import io.quarkus.test.bootstrap.ManagedResource;
 import io.quarkus.test.bootstrap.ServiceContext;
@@ -18,11 +20,25 @@ public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarku
             .load(QuarkusApplicationManagedResourceBinding.class);
 
     private Path artifact;
+    private CompletableFuture<Path> pendingArtifact;
+    private QuarkusMavenPluginBuildHelper pendingBuildHelper;
     private QuarkusManagedResource managedResource;
     private String artifactSuffix;
 
     @Override
-    protected Path getArtifact() {
+    protected synchronized Path getArtifact() {
+        if (pendingArtifact != null) {
+            // built in background, see QuarkusBuildScheduler. A failed build is rethrown on every call.
+            this.artifact = QuarkusBuildScheduler.await(pendingArtifact);
+            if (pendingBuildHelper.isBuildPropertiesSnapshotPending()) {
+                createSnapshotOfBuildProperties();
+            }
+
+            pendingArtifact = null;
+            pendingBuildHelper = null;
+            managedResource.onPostBuild();
+        }
+
         return artifact;
     }
 
@@ -61,10 +77,28 @@ public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarku
         return managedResource;
     }
 
+    @Override
+    public void awaitBuild() {
+        getArtifact();
+    }
+
     public void build() {
         managedResource.onPreBuild();
         copyResourcesToAppFolder();
         if (managedResource.needsBuildArtifact()) {
+            Optional<QuarkusBuildScheduler> scheduler = QuarkusBuildScheduler.getIfEnabled();
+            if (scheduler.isPresent()) {
+                // the artifact is awaited when the application is launched, or at the end of the scenario startup.
+                // The build must not update this builder, so the build properties are snapshotted here.
+                createSnapshotOfBuildPropertiesIfNotExists();
+                QuarkusMavenPluginBuildHelper buildHelper = newBuildHelper();
+                buildHelper.deferBuildPropertiesSnapshot();
+                this.pendingBuildHelper = buildHelper;
+                this.pendingArtifact = scheduler.get().schedule(buildHelper.isNativeBuild(),
+                        !buildHelper.isCustomBuildRequired(), buildHelper::buildOrReuseArtifact);
+                return;
+            }
+
             this.artifact = tryToReuseOrBuildArtifact();
         }
 
@@ -86,8 +120,11 @@ public class ProdQuarkusApplicationManagedResourceBuilder extends ArtifactQuarku
     }
 
     private Path tryToReuseOrBuildArtifact() {
-        return new QuarkusMavenPluginBuildHelper(this, getTargetFolderForLocalArtifacts(), artifactSuffix)
-                .buildOrReuseArtifact();
+        return newBuildHelper().buildOrReuseArtifact();
+    }
+
+    private QuarkusMavenPluginBuildHelper newBuildHelper() {
+        return new QuarkusMavenPluginBuildHelper(this, getTargetFolderForLocalArtifacts(), artifactSuffix);
     }
 
 }
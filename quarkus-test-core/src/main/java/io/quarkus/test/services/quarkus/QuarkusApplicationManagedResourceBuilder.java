@@ -7,29 +7,24 @@ import static java.util.stream.Collectors.toSet;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 
-import io.quarkus.deployment.configuration.BuildTimeConfigurationReader;
-import io.quarkus.runtime.LaunchMode;
 import io.quarkus.test.bootstrap.ManagedResourceBuilder;
 import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.security.certificate.CertificateBuilder;
 import io.quarkus.test.services.Dependency;
 import io.quarkus.test.services.quarkus.utils.Dependencies;
@@ -37,10 +32,7 @@ import io.quarkus.test.utils.ClassPathUtils;
 import io.quarkus.test.utils.FileUtils;
 import io.quarkus.test.utils.MapUtils;
 import io.quarkus.test.utils.PropertiesUtils;
-import io.quarkus.test.utils.ReflectionUtils;
 import io.quarkus.test.utils.TestExecutionProperties;
-import io.smallrye.config.SecretKeys;
-import io.smallrye.config.SmallRyeConfig;
 
 public abstract class QuarkusApplicationManagedResourceBuilder implements ManagedResourceBuilder {
 
@@ -59,7 +51,7 @@ public abstract class QuarkusApplicationManagedResourceBuilder implements Manage
 
     protected CertificateBuilder certificateBuilder;
 
-    private Class<?>[] appClasses;
+    private Set<String> appClassNames;
     /**
      * Whether build consist of all source classes or only some of them.
      */
@@ -107,8 +99,15 @@ public abstract class QuarkusApplicationManagedResourceBuilder implements Manage
         this.grpcEnabled = grpcEnabled;
     }
 
+    /**
+     * @return the application classes. Prefer {@link #getAppClassNames()}, as this loads all of them.
+     */
     protected Class<?>[] getAppClasses() {
-        return appClasses;
+        return ClassPathUtils.loadClasses(appClassNames);
+    }
+
+    protected Set<String> getAppClassNames() {
+        return appClassNames;
     }
 
     protected boolean isBuildWithAllClasses() {
@@ -216,18 +215,24 @@ public abstract class QuarkusApplicationManagedResourceBuilder implements Manage
         requiresCustomBuild = true;
         if (classes == null || classes.length == 0 || includeAllClassesFromMain) {
             if (classes != null && classes.length > 0) {
-                appClasses = ArrayUtils.addAll(classes, ClassPathUtils.findAllClassesFromSource());
+                Set<String> classNames = new LinkedHashSet<>(toClassNames(classes));
+                classNames.addAll(ClassPathUtils.findAllClassNamesFromSource());
+                appClassNames = classNames;
                 buildWithAllClasses = false;
             } else {
-                appClasses = ClassPathUtils.findAllClassesFromSource();
+                appClassNames = ClassPathUtils.findAllClassNamesFromSource();
                 requiresCustomBuild = false;
             }
         } else {
-            appClasses = classes;
+            appClassNames = toClassNames(classes);
             buildWithAllClasses = false;
         }
     }
 
+    private static Set<String> toClassNames(Class<?>[] classes) {
+        return Stream.of(classes).map(Class::getName).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
     protected void setS2iScenario() {
         this.s2iScenario = true;
     }
@@ -323,66 +328,8 @@ public abstract class QuarkusApplicationManagedResourceBuilder implements Manage
         // this won't detect build-time properties for dependencies forced with @Dependency as they are not
         // on the classpath which doesn't matter because custom build is always required when any dependency is forced
         var classLoader = Thread.currentThread().getContextClassLoader();
-
-        try {
-            var buildTimeConfigReader = new BuildTimeConfigurationReader(classLoader);
-            var buildSystemProps = new Properties();
-            buildSystemProps.putAll(computedProperties);
-
-            // this must always be set as Quarkus sets and config expansions would fail
-            buildSystemProps.put("platform.quarkus.native.builder-image", "<<ignored>>");
-
-            SmallRyeConfig aConfig;
-            try {
-                // current signature
-                aConfig = (SmallRyeConfig) ReflectionUtils.invokeMethod(buildTimeConfigReader, "initConfiguration",
-                        buildSystemProps, new Properties(), Map.of());
-            } catch (Throwable t) {
-                try {
-                    // signature before 3.26
-                    aConfig = (SmallRyeConfig) ReflectionUtils.invokeMethod(buildTimeConfigReader, "initConfiguration",
-                            LaunchMode.NORMAL, buildSystemProps, new Properties(), Map.of());
-                } catch (Throwable t2) {
-                    throw new IllegalStateException(BuildTimeConfigurationReader.class.getName()
-                            + "#initConfiguration method signature has changed, please adapt this implementation");
-                }
-            }
-            var config = aConfig;
-
-            var readResult = buildTimeConfigReader.readConfiguration(config);
-            var buildTimeConfigKeys = new HashSet<String>();
-            buildTimeConfigKeys.addAll(readResult.getAllBuildTimeValues().keySet());
-            buildTimeConfigKeys.addAll(readResult.getBuildTimeRunTimeValues().keySet());
-
-            // gather build-time config keys from extensions deployment modules
-            // this won't work for named config keys (without regex), but we can tweak that in the future if we need to
-            var deploymentBuildProps = IOUtils
-                    .readLines(QuarkusApplicationManagedResourceBuilder.class
-                            .getResourceAsStream("/deployment-build-props.txt"), StandardCharsets.UTF_8)
-                    .stream()
-                    .map(String::trim)
-                    .collect(toSet());
-            if (deploymentBuildProps.size() <= 1) {
-                throw new RuntimeException("deployment-build-props.txt couldn't be properly loaded");
-            }
-            buildTimeConfigKeys.addAll(deploymentBuildProps);
-
-            // handle relocations - if relocation processor is applied, we won't find original config property
-            // in the build-time or build-time-runtime-fixed properties as we can only find there the relocated one;
-            // we can safely guess that secret keys are not build-time config props,
-            // but we don't create config ourselves, hence unlock keys to avoid build failures
-            var relocatedBuildTimeProps = SecretKeys.doUnlocked(() -> buildSystemProps
-                    .stringPropertyNames()
-                    .stream()
-                    .filter(p -> !buildTimeConfigKeys.contains(p))
-                    .filter(p -> !p.equals(config.getConfigValue(p).getName()))
-                    .filter(p -> buildTimeConfigKeys.contains(config.getConfigValue(p).getName()))
-                    .collect(toSet()));
-            buildTimeConfigKeys.addAll(relocatedBuildTimeProps);
-
-            this.detectedBuildTimeProperties = Set.copyOf(buildTimeConfigKeys);
-        } catch (IOException | ClassNotFoundException e) {
-            throw new RuntimeException("Failed to detect build time properties", e);
+        try (var phase = PhaseTimings.start(context, "build.detect-build-time-properties")) {
+            this.detectedBuildTimeProperties = BuildTimePropertiesDetector.detect(classLoader, computedProperties);
         }
     }
 
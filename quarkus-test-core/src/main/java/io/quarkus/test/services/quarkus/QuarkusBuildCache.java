@@ -0,0 +1,161 @@
+package io.quarkus.test.services.quarkus;
+
+import static io.quarkus.test.services.quarkus.ProdQuarkusApplicationManagedResourceBuilder.TARGET;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.FileUtils;
+
+/**
+ * Content-addressed cache of the artifacts built from the prepared Maven projects.
+ * The key is a hash of the build command arguments and of every file of the prepared project (generated POM, application
+ * sources and resources including the enhanced application properties), so identical builds of different test classes,
+ * or of different runs when the cache folder is kept, are built only once.
+ *
+ * The cache is enabled using the property `ts.global.custom-build.cache.enabled` and stored in the folder set by
+ * `ts.global.custom-build.cache.dir` (defaults to `target/build-cache`). Note that changes of SNAPSHOT dependencies
+ * installed in the local Maven repository are not part of the key.
+ */
+final class QuarkusBuildCache {
+
+    private static final PropertyLookup ENABLED = new PropertyLookup(
+            Configuration.Property.CUSTOM_BUILD_CACHE_ENABLED.getName(), Boolean.FALSE.toString());
+    private static final PropertyLookup DIRECTORY = new PropertyLookup(
+            Configuration.Property.CUSTOM_BUILD_CACHE_DIR.getName(), Path.of(TARGET, "build-cache").toString());
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String QUARKUS_APP = "quarkus-app";
+    private static final String TEMP_PREFIX = ".tmp-";
+
+    private final Path cacheFolder;
+
+    QuarkusBuildCache(Path cacheFolder) {
+        this.cacheFolder = cacheFolder;
+    }
+
+    static Optional<QuarkusBuildCache> getIfEnabled() {
+        if (!ENABLED.getAsBoolean()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new QuarkusBuildCache(Path.of(DIRECTORY.get())));
+    }
+
+    /**
+     * @param projectRoot prepared Maven project, the target folder is ignored.
+     * @param buildArgs build arguments without the Maven executable, including the launch mode (for example, `-Dnative`).
+     */
+    String computeKey(Path projectRoot, List<String> buildArgs) {
+        MessageDigest digest = newDigest();
+        buildArgs.forEach(arg -> update(digest, arg));
+        try (Stream<Path> files = Files.walk(projectRoot)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> !projectRoot.relativize(file).startsWith(TARGET))
+                    .sorted()
+                    .forEach(file -> {
+                        update(digest, projectRoot.relativize(file).toString().replace('\\', '/'));
+                        try {
+                            digest.update(Files.readAllBytes(file));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Copies the cached artifact, if any, into the target folder of the project.
+     *
+     * @return whether the artifact was found in the cache.
+     */
+    boolean restore(String key, Path targetFolder) {
+        Path entry = cacheFolder.resolve(key);
+        if (!Files.isDirectory(entry)) {
+            return false;
+        }
+
+        try {
+            copy(entry, targetFolder);
+        } catch (IOException | UncheckedIOException e) {
+            Log.warn("Could not restore artifact from build cache %s, building it. Caused by: %s", entry, e.getMessage());
+            return false;
+        }
+
+        Log.info("Reusing artifact from build cache %s", entry);
+        return true;
+    }
+
+    /**
+     * Stores the built artifact: the Quarkus application folder when the artifact is in it, or the artifact file.
+     */
+    void store(String key, Path targetFolder, Path artifact) {
+        Path entry = cacheFolder.resolve(key);
+        if (Files.exists(entry)) {
+            return;
+        }
+
+        Path artifactPath = artifact.toAbsolutePath().normalize();
+        Path source = QUARKUS_APP.equals(artifactPath.getParent().toFile().getName()) ? artifactPath.getParent() : artifactPath;
+        // written into a temporary folder first, so concurrent builds never see incomplete entries
+        Path tempEntry = cacheFolder.resolve(TEMP_PREFIX + UUID.randomUUID());
+        try {
+            Files.createDirectories(tempEntry);
+            copy(source, tempEntry.resolve(targetFolder.toAbsolutePath().normalize().relativize(source).toString()));
+            Files.move(tempEntry, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            // stored by another build in the meantime
+            FileUtils.deletePath(tempEntry);
+        } catch (IOException | UncheckedIOException e) {
+            Log.warn("Could not store artifact %s in build cache. Caused by: %s", artifact, e.getMessage());
+            FileUtils.deletePath(tempEntry);
+        }
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.createDirectories(copy.getParent());
+                    // attributes are copied to keep native executables executable
+                    Files.copy(file, copy, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkus.test.services.quarkus;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.utils.DaemonThreadFactory;
+
+/**
+ * Runs the Maven builds of the Quarkus applications in background, so the applications of a scenario are built
+ * concurrently while the services are initialized, and each artifact is only awaited when its application is launched.
+ *
+ * The scheduler is enabled using the property `ts.global.parallel-build.enabled`. The number of concurrent builds is
+ * limited by `ts.global.parallel-build.max-builds` (defaults to half of the CPUs) and the number of concurrent native
+ * builds by `ts.global.parallel-build.max-native-builds` (defaults to what the CPUs and the physical memory allow).
+ */
+final class QuarkusBuildScheduler {
+
+    private static final PropertyLookup ENABLED = new PropertyLookup(
+            Configuration.Property.PARALLEL_BUILD.getName(), Boolean.FALSE.toString());
+    private static final PropertyLookup MAX_BUILDS = new PropertyLookup(
+            Configuration.Property.PARALLEL_BUILD_MAX_BUILDS.getName());
+    private static final PropertyLookup MAX_NATIVE_BUILDS = new PropertyLookup(
+            Configuration.Property.PARALLEL_BUILD_MAX_NATIVE_BUILDS.getName());
+    private static final long NATIVE_BUILD_MEMORY_BYTES = 8L * 1024 * 1024 * 1024;
+    private static final int CPUS_PER_NATIVE_BUILD = 4;
+
+    private static QuarkusBuildScheduler instance;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool(new DaemonThreadFactory("quarkus-build"));
+    private final Semaphore builds;
+    private final Semaphore nativeBuilds;
+    // builds that produce the artifact of the module target folder are run one at a time, so the next ones reuse it
+    private final Object sharedArtifactLock = new Object();
+
+    private QuarkusBuildScheduler(int maxBuilds, int maxNativeBuilds) {
+        this.builds = new Semaphore(maxBuilds);
+        this.nativeBuilds = new Semaphore(maxNativeBuilds);
+        Log.debug("Building Quarkus applications in parallel, up to %s builds and %s native builds",
+                maxBuilds, maxNativeBuilds);
+    }
+
+    static synchronized Optional<QuarkusBuildScheduler> getIfEnabled() {
+        if (!ENABLED.getAsBoolean()) {
+            return Optional.empty();
+        }
+
+        if (instance == null) {
+            int cpus = Runtime.getRuntime().availableProcessors();
+            int maxBuilds = getOrDefault(MAX_BUILDS, Math.max(1, cpus / 2));
+            int maxNativeBuilds = getOrDefault(MAX_NATIVE_BUILDS, Math.max(1,
+                    Math.min(cpus / CPUS_PER_NATIVE_BUILD, (int) (getPhysicalMemory() / NATIVE_BUILD_MEMORY_BYTES))));
+            instance = new QuarkusBuildScheduler(maxBuilds, maxNativeBuilds);
+        }
+
+        return Optional.of(instance);
+    }
+
+    /**
+     * @param nativeBuild whether the build produces a native executable.
+     * @param sharedArtifact whether the build produces the artifact of the module target folder.
+     * @param build the build, it returns the artifact.
+     */
+    CompletableFuture<Path> schedule(boolean nativeBuild, boolean sharedArtifact, Supplier<Path> build) {
+        Semaphore permits = nativeBuild ? nativeBuilds : builds;
+        return CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                if (sharedArtifact) {
+                    synchronized (sharedArtifactLock) {
+                        return build.get();
+                    }
+                }
+
+                return build.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * @return the artifact, or rethrows the build failure.
+     */
+    static Path await(CompletableFuture<Path> build) {
+        try {
+            return build.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw ex;
+        }
+    }
+
+    private static int getOrDefault(PropertyLookup property, int defaultValue) {
+        String value = property.get();
+        return StringUtils.isNotEmpty(value) ? Math.max(1, Integer.parseInt(value)) : defaultValue;
+    }
+
+    private static long getPhysicalMemory() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getTotalMemorySize();
+        }
+
+        return NATIVE_BUILD_MEMORY_BYTES;
+    }
+}
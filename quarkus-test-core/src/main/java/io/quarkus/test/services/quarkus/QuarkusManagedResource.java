@@ -1,14 +1,24 @@
 package io.quarkus.test.services.quarkus;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import io.quarkus.test.bootstrap.ManagedResource;
+import io.quarkus.test.bootstrap.Protocol;
 import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
+import io.quarkus.test.metrics.StartupMeasurement;
+import io.quarkus.test.services.URILike;
 import io.quarkus.test.services.quarkus.model.LaunchMode;
 import io.quarkus.test.services.quarkus.model.QuarkusProperties;
+import io.quarkus.test.utils.ReadinessProbes;
 
 /**
  * This class describes a Quarkus application,
@@ -24,6 +34,11 @@ public abstract class QuarkusManagedResource implements ManagedResource {
             "One or more configuration errors have prevented the application from starting",
             "Attempting to start live reload endpoint to recover from previous Quarkus startup failure",
             "Dev mode process did not complete successfully");
+    private static final String LOG_PROBE = "log";
+    private static final String HTTP_PROBE = "http";
+    private static final String TCP_PROBE = "tcp";
+    private static final String READINESS_PATH = "/q/health/ready";
+    private static final String ROOT_PATH = "/";
 
     private final ServiceContext serviceContext;
     private final LaunchMode launchMode;
@@ -45,6 +60,41 @@ public abstract class QuarkusManagedResource implements ManagedResource {
         return getLoggingHandler() != null && getLoggingHandler().logsContains(expectedOutput);
     }
 
+    /**
+     * Probes configured by `ts.<service>.startup.readiness-probes`: `log` completes when the expected output is logged,
+     * `http` when `/q/health/ready` responds with 200 and `tcp` when the HTTP port accepts connections.
+     */
+    @Override
+    public CompletableFuture<Void> readiness() {
+        List<CompletableFuture<Void>> probes = new ArrayList<>();
+        List<String> names = getContext().getOwner().getConfiguration()
+                .getAsList(Configuration.Property.SERVICE_STARTUP_READINESS_PROBES);
+        for (String name : names) {
+            try {
+                switch (name.trim()) {
+                    case LOG_PROBE -> {
+                        if (getLoggingHandler() != null) {
+                            probes.add(getLoggingHandler().whenLogsContain(expectedOutput));
+                        }
+                    }
+                    case HTTP_PROBE -> probes.add(ReadinessProbes.http(
+                            URI.create(getURI(Protocol.HTTP).withPath(READINESS_PATH).toString())));
+                    case TCP_PROBE -> {
+                        URILike uri = getURI(Protocol.HTTP);
+                        probes.add(ReadinessProbes.tcp(uri.getHost(), uri.getPort()));
+                    }
+                    default -> Log.warn("Unknown readiness probe '%s', valid values are: %s, %s, %s",
+                            name, LOG_PROBE, HTTP_PROBE, TCP_PROBE);
+                }
+            } catch (RuntimeException ex) {
+                // the regular poll still checks the resource
+                Log.debug("Readiness probe '%s' not available. Caused by: %s", name, ex.getMessage());
+            }
+        }
+
+        return probes.isEmpty() ? ReadinessProbes.never() : ReadinessProbes.anyOf(probes);
+    }
+
     @Override
     public boolean isFailed() {
         return getLoggingHandler() != null
@@ -68,6 +118,37 @@ public abstract class QuarkusManagedResource implements ManagedResource {
         getLoggingHandler().flush();
     }
 
+    /**
+     * Starts measuring the launched process: the expected output is awaited in the logs, the root path is requested
+     * until any HTTP response is received when it was requested (see {@link StartupMeasurement#FIRST_RESPONSE_REQUESTED}),
+     * and the footprint is sampled every `ts.<service>.footprint.sampling-interval` when set. Must be invoked once the
+     * logging handler is watching.
+     *
+     * @param launchNanos {@link System#nanoTime()} right before the process was launched.
+     * @param spawnedNanos {@link System#nanoTime()} right after the process was launched.
+     */
+    protected StartupMeasurement measureStartup(Process process, long launchNanos, long spawnedNanos) {
+        StartupMeasurement measurement = StartupMeasurement.launched(process.toHandle(), launchNanos, spawnedNanos);
+        measurement.onStartedOutput(getLoggingHandler().whenLogsContain(expectedOutput));
+        Configuration configuration = getContext().getOwner().getConfiguration();
+        if (Boolean.TRUE.equals(getContext().get(StartupMeasurement.FIRST_RESPONSE_REQUESTED))
+                || configuration.isTrue(Configuration.Property.STARTUP_MEASUREMENT_ENABLED)) {
+            try {
+                measurement.onFirstResponse(ReadinessProbes.httpResponse(
+                        URI.create(getURI(Protocol.HTTP).withPath(ROOT_PATH).toString())));
+            } catch (RuntimeException ex) {
+                Log.debug("Time to first HTTP response will not be measured. Caused by: %s", ex.getMessage());
+            }
+        }
+
+        Duration samplingInterval = configuration.getAsDuration(Configuration.Property.FOOTPRINT_SAMPLING_INTERVAL, null);
+        if (samplingInterval != null) {
+            measurement.sampleEvery(samplingInterval);
+        }
+
+        return measurement;
+    }
+
     protected ServiceContext getContext() {
         return serviceContext;
     }
@@ -13,14 +13,12 @@ import static io.quarkus.test.utils.PropertiesUtils.SLASH;
 import static io.quarkus.test.utils.PropertiesUtils.toMvnSystemProperty;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toSet;
-import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -42,7 +40,10 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.utils.ClassPathUtils;
 import io.quarkus.test.utils.Command;
 import io.quarkus.test.utils.FileUtils;
@@ -67,6 +68,17 @@ public final class QuarkusMavenPluginBuildHelper {
     private static final String LAUNCHER = "org.codehaus.plexus.classworlds.launcher.Launcher";
     private static final String JAVA_SUFFIX = ".java";
     private static final String POM_XML = "pom.xml";
+    private static final String MVN_BUILD = "mvn-build";
+    private static final String STAGING_SUFFIX = ".staging";
+    private static final String MVND = "mvnd";
+    private static final String MVND_HOME = "MVND_HOME";
+    // 'fork' runs a new Maven process per build, 'mvnd' reuses the warm Maven Daemon processes when available
+    private static final PropertyLookup BUILD_BACKEND = new PropertyLookup(
+            Configuration.Property.CUSTOM_BUILD_BACKEND.getName(), "fork");
+    private static final PropertyLookup INCREMENTAL_BUILD = new PropertyLookup(
+            Configuration.Property.CUSTOM_BUILD_INCREMENTAL.getName(), Boolean.FALSE.toString());
+    // resolved once per JVM, so the Maven installation is not probed before every build
+    private static volatile String mavenExecutable;
     private final Path appFolder;
     private final Set<String> appClassNames;
     private final List<Dependency> forcedDependencies;
@@ -80,6 +92,9 @@ public final class QuarkusMavenPluginBuildHelper {
     // ideally we drop this and users activate OpenShift profile when they need it
     private final List<Dependency> requiredDependencies;
     private final List<Dependency> additionalImports;
+    // builds in background leave the updates of the resource builder to the thread that awaits the artifact
+    private boolean deferBuildPropertiesSnapshot;
+    private volatile boolean buildPropertiesSnapshotPending;
 
     QuarkusMavenPluginBuildHelper(QuarkusApplicationManagedResourceBuilder resourceBuilder) {
         this(resourceBuilder, null, null);
@@ -104,7 +119,7 @@ public final class QuarkusMavenPluginBuildHelper {
         }
         this.resourceBuilder = resourceBuilder;
         this.appFolder = resourceBuilder.getApplicationFolder();
-        this.appClassNames = Arrays.stream(resourceBuilder.getAppClasses()).map(Class::getName).collect(toUnmodifiableSet());
+        this.appClassNames = Set.copyOf(resourceBuilder.getAppClassNames());
         this.buildWithAllClasses = resourceBuilder.isBuildWithAllClasses();
         this.targetFolderForLocalArtifacts = targetFolderForLocalArtifacts;
         this.artifactSuffix = artifactSuffix;
@@ -262,6 +277,30 @@ public final class QuarkusMavenPluginBuildHelper {
         return mavenBuildProjectRoot;
     }
 
+    /**
+     * Prepares the project in a staging folder and only replaces the files that changed since the previous build,
+     * keeping the `target` folder, so the Maven build is incremental.
+     */
+    private Path prepareMavenProjectIncrementally(Path mavenBuildProjectRoot) {
+        Path staged = prepareMavenProject(mavenBuildProjectRoot.resolveSibling(
+                mavenBuildProjectRoot.getFileName() + STAGING_SUFFIX));
+        IncrementalProjectSync.sync(staged, mavenBuildProjectRoot, Set.of(TARGET));
+        return mavenBuildProjectRoot;
+    }
+
+    /**
+     * @return a project folder that outlives the service folder (deleted on exit and recreated on init),
+     *         for example `target/mvn-build/MyIT/app` for the service `app` of the `MyIT` scenario.
+     */
+    private Path getPersistentMavenBuildProjectRoot() {
+        Path targetFolder = Path.of(TARGET).toAbsolutePath();
+        Path serviceFolder = appFolder.toAbsolutePath().normalize();
+        Path relativeServiceFolder = serviceFolder.startsWith(targetFolder)
+                ? targetFolder.relativize(serviceFolder)
+                : serviceFolder.getFileName();
+        return targetFolder.resolve(MVN_BUILD).resolve(relativeServiceFolder);
+    }
+
     private static void purgeWhitespaces(Node node) {
         NodeList childNodes = node.getChildNodes();
         List<Node> forRemoval = new ArrayList<>(childNodes.getLength());
@@ -297,6 +336,22 @@ public final class QuarkusMavenPluginBuildHelper {
         return buildOrReuseArtifact(List.of()).orElseThrow(() -> new RuntimeException("Failed to build native executable"));
     }
 
+    boolean isNativeBuild() {
+        return mode == Mode.NATIVE;
+    }
+
+    /**
+     * The snapshot of the build properties taken after the build is then only recorded, see
+     * {@link #isBuildPropertiesSnapshotPending()}.
+     */
+    void deferBuildPropertiesSnapshot() {
+        this.deferBuildPropertiesSnapshot = true;
+    }
+
+    boolean isBuildPropertiesSnapshotPending() {
+        return buildPropertiesSnapshotPending;
+    }
+
     Path buildOrReuseArtifact() {
         return switch (mode) {
             case JVM -> buildOrReuseJar();
@@ -307,15 +362,26 @@ public final class QuarkusMavenPluginBuildHelper {
     Optional<Path> buildOrReuseArtifact(Collection<String> additionalArgs) {
         requireNonNull(targetFolderForLocalArtifacts);
 
-        final Path mavenBuildProjectRoot;
+        Path mavenBuildProjectRoot = prepareBuildProject();
+        return getArtifact().or(() -> buildArtifactWithQuarkusMvnPlugin(mavenBuildProjectRoot, additionalArgs));
+    }
+
+    /**
+     * @return the folder where the Maven build runs.
+     */
+    Path prepareBuildProject() {
         if (isS2iScenario()) {
             // no adjustments it would be too complex, and we couldn't gain anything there
-            mavenBuildProjectRoot = appFolder;
-        } else {
-            mavenBuildProjectRoot = prepareMavenProject(appFolder.resolve("mvn-build"));
+            return appFolder;
         }
 
-        return getArtifact().or(() -> buildArtifactWithQuarkusMvnPlugin(mavenBuildProjectRoot, additionalArgs));
+        try (var phase = PhaseTimings.start(resourceBuilder.getContext(), "build.prepare-project")) {
+            if (INCREMENTAL_BUILD.getAsBoolean()) {
+                return prepareMavenProjectIncrementally(getPersistentMavenBuildProjectRoot());
+            }
+
+            return prepareMavenProject(appFolder.resolve(MVN_BUILD));
+        }
     }
 
     private Optional<Path> getArtifact() {
@@ -342,10 +408,22 @@ public final class QuarkusMavenPluginBuildHelper {
     }
 
     private Optional<Path> buildArtifactWithQuarkusMvnPlugin(Path mavenBuildProjectRoot, Collection<String> additionalArgs) {
-        try {
-            new Command(getBuildCmd(additionalArgs)).onDirectory(mavenBuildProjectRoot).runAndWait();
-        } catch (IOException | InterruptedException e) {
-            throw new RuntimeException("Failed to build artifact: " + e.getMessage());
+        String[] buildCmd = getBuildCmd(additionalArgs);
+        // S2I scenarios build the application folder as is, so there is nothing prepared to be hashed
+        Optional<QuarkusBuildCache> buildCache = isS2iScenario() ? Optional.empty() : QuarkusBuildCache.getIfEnabled();
+        // the Maven executable is not relevant for the result
+        List<String> buildArgs = List.of(buildCmd).subList(1, buildCmd.length);
+        String cacheKey = buildCache.map(cache -> cache.computeKey(mavenBuildProjectRoot, buildArgs)).orElse(null);
+        Path targetFolder = mavenBuildProjectRoot.resolve(TARGET);
+        if (buildCache.isEmpty() || !buildCache.get().restore(cacheKey, targetFolder)) {
+            try (var phase = PhaseTimings.start(resourceBuilder.getContext(), isNativeBuild() ? "build.native" : "build.jvm")) {
+                new Command(buildCmd).onDirectory(mavenBuildProjectRoot).runAndWait();
+            } catch (IOException | InterruptedException e) {
+                throw new RuntimeException("Failed to build artifact: " + e.getMessage());
+            }
+
+            buildCache.ifPresent(cache -> findBuiltArtifact(targetFolder)
+                    .ifPresent(artifact -> cache.store(cacheKey, targetFolder, artifact)));
         }
 
         if (mode == Mode.JVM) {
@@ -355,6 +433,14 @@ public final class QuarkusMavenPluginBuildHelper {
         }
     }
 
+    private Optional<Path> findBuiltArtifact(Path targetFolder) {
+        if (mode == Mode.JVM) {
+            return findJvmArtifact(targetFolder).map(Path::of);
+        }
+
+        return findTargetFile(targetFolder, nativeRunnerName()).map(Path::of);
+    }
+
     private Optional<String> findAndMoveJvmArtifact(Path mavenBuildProjectRoot) {
         return findJvmArtifact(mavenBuildProjectRoot.resolve(TARGET))
                 .map(jarPathStr -> {
@@ -395,7 +481,12 @@ public final class QuarkusMavenPluginBuildHelper {
         final Path permanentNativeExecutablePath;
         // runtime properties provided at build time are currently available during the build time and so are custom props
         // therefore we can't allow re-using of native executable with application specific properties (e.g. "withProperty")
-        resourceBuilder.createSnapshotOfBuildProperties();
+        if (deferBuildPropertiesSnapshot) {
+            buildPropertiesSnapshotPending = true;
+        } else {
+            resourceBuilder.createSnapshotOfBuildProperties();
+        }
+
         if (isCustomBuildRequired()) {
             String uniqueAppName = getUniqueAppName(appFolder);
             Path customExecutableTargetDir = targetFolderForLocalArtifacts.resolve(CUSTOM_RUNNER_DIR).resolve(uniqueAppName);
@@ -419,15 +510,20 @@ public final class QuarkusMavenPluginBuildHelper {
         return Optional.of(permanentNativeExecutablePath);
     }
 
-    private boolean isCustomBuildRequired() {
+    boolean isCustomBuildRequired() {
         boolean customBuildRequiredImplicitly = resourceBuilder.requiresCustomBuild() || !forcedDependencies.isEmpty()
                 || !requiredDependencies.isEmpty() || resourceBuilder.areApplicationPropertiesEnhanced();
         boolean customBuildRequiredExplicitly = TestExecutionProperties.isCustomBuildRequired(resourceBuilder.getContext());
         return customBuildRequiredExplicitly || customBuildRequiredImplicitly;
     }
 
-    private String[] getBuildCmd(Collection<String> additionalArgs) {
-        Stream<String> cmdStream = Stream.of(mvnCmd(), "-B", "--no-transfer-progress", "clean", "install");
+    String[] getBuildCmd(Collection<String> additionalArgs) {
+        Stream<String> cmdStream = Stream.of(mvnCmd(), "-B", "--no-transfer-progress");
+        if (!INCREMENTAL_BUILD.getAsBoolean()) {
+            // the incremental build keeps the classes compiled by the previous build
+            cmdStream = Stream.concat(cmdStream, Stream.of("clean"));
+        }
+        cmdStream = Stream.concat(cmdStream, Stream.of("install"));
         if (mode == Mode.NATIVE) {
             cmdStream = Stream.concat(cmdStream, Stream.of("-Dnative"));
         }
@@ -556,13 +652,21 @@ public final class QuarkusMavenPluginBuildHelper {
     }
 
     private boolean isNotAppClass(Path path) {
-        String normalizedPath = ClassPathUtils.normalizeClassName(path.toString(), JAVA_SUFFIX);
-        return appClassNames.stream().noneMatch(normalizedPath::endsWith);
+        return !isAppClass(path);
     }
 
     private boolean isAppClass(Path path) {
+        // the normalized path starts with the source folder, so its suffixes are looked up instead of the other way
+        // round, which would be expensive for applications with many classes
         String normalizedPath = ClassPathUtils.normalizeClassName(path.toString(), JAVA_SUFFIX);
-        return appClassNames.stream().anyMatch(normalizedPath::endsWith);
+        for (int index = 0; index >= 0; index = normalizedPath.indexOf('.', index + 1)) {
+            String suffix = index == 0 ? normalizedPath : normalizedPath.substring(index + 1);
+            if (appClassNames.contains(suffix)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private void addForcedDependenciesToNewPom(Document pomDocument, Node projectElement) {
@@ -692,6 +796,42 @@ public final class QuarkusMavenPluginBuildHelper {
     }
 
     private static String mvnCmd() {
+        if (mavenExecutable == null) {
+            mavenExecutable = findMavenDaemon().orElseGet(QuarkusMavenPluginBuildHelper::findMaven);
+        }
+
+        return mavenExecutable;
+    }
+
+    private static Optional<String> findMavenDaemon() {
+        if (!MVND.equalsIgnoreCase(BUILD_BACKEND.get())) {
+            return Optional.empty();
+        }
+
+        String mvndHome = System.getenv(MVND_HOME);
+        List<String> candidates = new ArrayList<>();
+        if (mvndHome != null) {
+            candidates.add(Path.of(mvndHome, "bin", OS.current() == OS.WINDOWS ? MVND + ".cmd" : MVND).toString());
+        }
+        candidates.add(MVND);
+        for (String candidate : candidates) {
+            try {
+                new Command(candidate, "--version").runAndWait();
+                Log.info("Using Maven Daemon '%s' to build Quarkus applications", candidate);
+                return Optional.of(candidate);
+            } catch (IOException | RuntimeException e) {
+                Log.debug("Maven Daemon '%s' is not available: %s", candidate, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        Log.warn("Maven Daemon is not available, falling back to a new Maven process per build");
+        return Optional.empty();
+    }
+
+    private static String findMaven() {
         try {
             new Command("mvn", "--version").runAndWait();
         } catch (IOException | InterruptedException e) {
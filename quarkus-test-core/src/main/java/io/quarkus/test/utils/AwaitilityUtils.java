@@ -2,7 +2,12 @@ package io.quarkus.test.utils;
 
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -14,6 +19,7 @@ import org.awaitility.core.ConditionTimeoutException;
 import org.awaitility.core.EvaluatedCondition;
 import org.awaitility.core.ThrowingRunnable;
 import org.awaitility.core.TimeoutEvent;
+import org.awaitility.pollinterval.PollInterval;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.jboss.logging.Logger;
@@ -30,6 +36,7 @@ public final class AwaitilityUtils {
 
     private static final int POLL_SECONDS = 1;
     private static final int TIMEOUT_SECONDS = 30;
+    private static final Duration EVENT_POLL_INTERVAL = Duration.ofMillis(100);
 
     private AwaitilityUtils() {
 
@@ -99,6 +106,32 @@ public final class AwaitilityUtils {
         awaits(settings).until(supplier);
     }
 
+    /**
+     * Wait until supplier returns true. The supplier is checked as soon as the event completes instead of waiting for
+     * the next poll, and then every 100 milliseconds. The settings interval is used while the event is pending, or
+     * when it failed.
+     *
+     * @param supplier method to return the instance.
+     * @param event event after which the supplier is likely to return true.
+     */
+    public static void untilIsTrue(Callable<Boolean> supplier, CompletableFuture<?> event, AwaitilitySettings settings) {
+        // failed or cancelled events are not hints anymore
+        PollInterval pollInterval = (pollCount, previous) -> event.isCompletedExceptionally()
+                ? settings.interval
+                : EVENT_POLL_INTERVAL;
+        AtomicBoolean firstPoll = new AtomicBoolean(true);
+        awaits(settings)
+                .pollDelay(Duration.ZERO)
+                .pollInterval(pollInterval)
+                .until(() -> {
+                    if (!firstPoll.getAndSet(false)) {
+                        awaitEvent(event, settings.interval);
+                    }
+
+                    return supplier.call();
+                });
+    }
+
     /**
      * Wait until supplier returns a not null instance.
      *
@@ -169,6 +202,21 @@ public final class AwaitilityUtils {
         return awaits(settings).until(get(supplier), matcher);
     }
 
+    /**
+     * Waits up to the timeout while the event is pending, so the condition is checked as soon as it completes.
+     */
+    private static void awaitEvent(CompletableFuture<?> event, Duration timeout) throws InterruptedException {
+        if (event.isDone()) {
+            return;
+        }
+
+        try {
+            event.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException | CancellationException ignored) {
+            // the event is only a hint to check the condition earlier
+        }
+    }
+
     private static <T> Callable<T> get(Supplier<T> supplier) {
         return () -> {
             T instance = supplier.get();
@@ -0,0 +1,71 @@
+package io.quarkus.test.utils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.quarkus.test.logging.Log;
+
+/**
+ * Deletes folders in a background thread. The folder is first renamed, so the same path can be immediately reused (for
+ * example, by a service with the same name in the next test class) while the content is being deleted.
+ * The pending deletions are completed before the JVM exits.
+ */
+public final class BackgroundFolderCleaner {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(1);
+    private static final String DELETING_SUFFIX = ".deleting-";
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private BackgroundFolderCleaner() {
+
+    }
+
+    /**
+     * Deletes the folder in background, or right away if it can't be renamed.
+     */
+    public static void delete(Path folder) {
+        if (!Files.exists(folder)) {
+            return;
+        }
+
+        Path renamed = folder.resolveSibling(folder.getFileName() + DELETING_SUFFIX + UUID.randomUUID());
+        try {
+            Files.move(folder, renamed);
+        } catch (IOException e) {
+            Log.debug("Could not rename folder %s, deleting it right away. Caused by: %s", folder, e.getMessage());
+            FileUtils.deletePath(folder);
+            return;
+        }
+
+        EXECUTOR.execute(() -> {
+            try {
+                FileUtils.deletePath(renamed);
+            } catch (Exception ex) {
+                Log.warn("Could not delete folder %s. Caused by: %s", renamed, ex.getMessage());
+            }
+        });
+    }
+
+    private static ExecutorService createExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("folder-cleaner"));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitPendingDeletions(executor), "folder-cleaner-shutdown"));
+        return executor;
+    }
+
+    private static void awaitPendingDeletions(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                Log.warn("Folders are still being deleted after %s, giving up", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
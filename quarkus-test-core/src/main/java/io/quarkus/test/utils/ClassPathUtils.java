@@ -5,8 +5,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -17,34 +23,61 @@ import io.quarkus.test.logging.Log;
 public final class ClassPathUtils {
     private static final Path SOURCE_CLASSES_LOCATION = Paths.get("target", "classes");
     private static final String CLASS_SUFFIX = ".class";
+    private static final Map<Path, Set<String>> CLASS_NAMES = new ConcurrentHashMap<>();
 
     private ClassPathUtils() {
 
     }
 
+    /**
+     * @return the classes compiled from the source. Prefer {@link #findAllClassNamesFromSource()} when the class objects
+     *         are not needed, as this loads all of them.
+     */
     public static Class<?>[] findAllClassesFromSource() {
-        List<Class<?>> classes = new LinkedList<>();
+        return loadClasses(findAllClassNamesFromSource());
+    }
+
+    /**
+     * @return the names of the classes compiled from the source, found from the class files without loading them.
+     *         The names are only looked up once per JVM.
+     */
+    public static Set<String> findAllClassNamesFromSource() {
+        return CLASS_NAMES.computeIfAbsent(SOURCE_CLASSES_LOCATION.toAbsolutePath(), location -> findClassNames());
+    }
+
+    /**
+     * @return the classes loaded by the context class loader, skipping those that can't be loaded.
+     */
+    public static Class<?>[] loadClasses(Collection<String> classNames) {
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                classes.add(Thread.currentThread().getContextClassLoader().loadClass(className));
+            } catch (ClassNotFoundException ex) {
+                Log.warn("Could not load %s. Caused by: %s", className, ex);
+            }
+        }
+
+        return classes.toArray(new Class<?>[0]);
+    }
+
+    private static Set<String> findClassNames() {
+        Set<String> classNames = new LinkedHashSet<>();
         try {
             if (!Files.exists(SOURCE_CLASSES_LOCATION)) {
-                return new Class<?>[0];
+                return Set.of();
             }
             try (Stream<Path> stream = Files.walk(SOURCE_CLASSES_LOCATION)) {
                 stream.map(Path::toString)
                         .filter(s -> s.endsWith(CLASS_SUFFIX))
                         .map(ClassPathUtils::normalizeClassName)
-                        .forEach(className -> {
-                            try {
-                                classes.add(Thread.currentThread().getContextClassLoader().loadClass(className));
-                            } catch (ClassNotFoundException ex) {
-                                Log.warn("Could not load %s. Caused by: %s", className, ex);
-                            }
-                        });
+                        .forEach(classNames::add);
             }
         } catch (Exception ex) {
             fail("Can't load source classes location. Caused by " + ex.getMessage());
         }
 
-        return classes.toArray(new Class<?>[0]);
+        return Collections.unmodifiableSet(classNames);
     }
 
     private static String normalizeClassName(String path) {
@@ -1,8 +1,8 @@
 package io.quarkus.test.utils;
 
 import java.util.Arrays;
-import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.awaitility.core.ConditionTimeoutException;
 
@@ -38,12 +38,11 @@ public class LogsVerifier {
         Predicate<String> containsExpectedLog = createExpectedLogPredicate(expectedLogs);
         try {
             AwaitilityUtils.untilAsserted(() -> {
-                List<String> actualLogs = service.getLogs();
-                if (!actualLogs.stream().anyMatch(containsExpectedLog)) {
+                if (!anyLogMatches(containsExpectedLog)) {
                     String message = customMessage;
                     if (message == null) {
                         message = "Log does not contain any of '" + Arrays.toString(expectedLogs) + "'. Full logs: "
-                                + actualLogs;
+                                + service.getLogs();
                     }
                     throw new AssertionError(message);
                 }
@@ -65,13 +64,19 @@ public class LogsVerifier {
     }
 
     public void assertDoesNotContain(String unexpectedLog) {
-        List<String> actualLogs = service.getLogs();
-        if (actualLogs.stream().anyMatch(line -> line.contains(unexpectedLog))) {
+        if (anyLogMatches(line -> line.contains(unexpectedLog))) {
             String message = customMessage;
             if (message == null) {
-                message = "Log does contain " + unexpectedLog + ". Full logs: " + actualLogs;
+                message = "Log does contain " + unexpectedLog + ". Full logs: " + service.getLogs();
             }
             throw new AssertionError(message);
         }
     }
+
+    private boolean anyLogMatches(Predicate<String> predicate) {
+        // full logs are only materialized for the failure message
+        try (Stream<String> actualLogs = service.streamLogs()) {
+            return actualLogs.anyMatch(predicate);
+        }
+    }
 }
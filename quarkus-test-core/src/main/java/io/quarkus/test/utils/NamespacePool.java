@@ -0,0 +1,114 @@
+package io.quarkus.test.utils;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.test.logging.Log;
+
+/**
+ * Keeps a few ephemeral namespaces (or projects) created in advance, so the next scenario doesn't wait for its
+ * namespace to be created, and deletes the namespaces of the finished scenarios in background, so the next scenario
+ * doesn't wait for the deletion either. Creations and deletions use separate threads, so a slow deletion doesn't delay
+ * the next namespace. The namespaces that are still pooled or being deleted are deleted by {@link #deleteAll()}, which
+ * the owner of the pool usually invokes from a shutdown hook.
+ */
+public final class NamespacePool {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofMinutes(5);
+    private static final int THREADS = 4;
+
+    private final String kind;
+    private final int size;
+    private final Supplier<String> creator;
+    private final Consumer<String> deleter;
+    private final ExecutorService creations;
+    private final ExecutorService deletions;
+    private final Deque<CompletableFuture<String>> pooled = new ArrayDeque<>();
+
+    /**
+     * @param kind what is pooled, for example `namespace` or `project`. Only used in logs and thread names.
+     * @param size how many namespaces are created in advance.
+     * @param creator creates a namespace and returns its name, failing if it can't be created.
+     * @param deleter deletes the namespace, it's invoked from background threads.
+     */
+    public NamespacePool(String kind, int size, Supplier<String> creator, Consumer<String> deleter) {
+        this.kind = kind;
+        this.size = size;
+        this.creator = creator;
+        this.deleter = deleter;
+        this.creations = Executors.newFixedThreadPool(THREADS, new DaemonThreadFactory(kind + "-pool"));
+        this.deletions = Executors.newFixedThreadPool(THREADS, new DaemonThreadFactory(kind + "-pool-deletion"));
+    }
+
+    /**
+     * @return a namespace created in advance, or a new one if none is ready. The pool is filled up again in background.
+     */
+    public String take() {
+        CompletableFuture<String> next;
+        synchronized (this) {
+            next = pooled.poll();
+            while (pooled.size() < size) {
+                pooled.add(CompletableFuture.supplyAsync(creator, creations));
+            }
+        }
+
+        if (next != null) {
+            try {
+                return next.join();
+            } catch (CompletionException e) {
+                Log.warn("The %s created in advance failed to be created, creating another one. Caused by: %s", kind,
+                        e.getCause().getMessage());
+            }
+        }
+
+        return creator.get();
+    }
+
+    /**
+     * Deletes the namespace in background.
+     */
+    public void release(String namespace) {
+        deletions.execute(() -> delete(namespace));
+    }
+
+    /**
+     * Deletes the namespaces created in advance and waits for the pending deletions. The pool can't be used afterwards.
+     */
+    public synchronized void deleteAll() {
+        List<CompletableFuture<String>> unused = List.copyOf(pooled);
+        pooled.clear();
+        // the namespaces still being created are released once created, so the creations are awaited first
+        unused.forEach(namespace -> namespace.thenAccept(this::release));
+        creations.shutdown();
+        awaitTermination(creations, "created");
+        deletions.shutdown();
+        awaitTermination(deletions, "deleted");
+    }
+
+    private void awaitTermination(ExecutorService executor, String action) {
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                Log.warn("Ephemeral %ss are still being %s after %s, giving up", kind, action, SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void delete(String namespace) {
+        try {
+            deleter.accept(namespace);
+        } catch (Throwable t) {
+            Log.warn("Ephemeral %s %s failed to be deleted. Caused by: %s", kind, namespace, t.getMessage());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.quarkus.test.utils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.test.logging.Log;
+
+/**
+ * Leases ports coordinating with the other JVMs of the same host (for example, parallel Surefire or Failsafe forks).
+ * The port range is split in blocks of ports. Each JVM claims whole blocks in a shared lease file, where every block
+ * has a record with the PID of its owner, and then hands out the ports of its blocks without further coordination.
+ * Blocks are released when the JVM exits, and blocks of JVMs that are no longer alive are reclaimed.
+ */
+final class PortLeaseAllocator {
+
+    static final int BLOCK_SIZE = 32;
+
+    private static final String LEASE_FILE = "port-leases.bin";
+    private static final int RECORD_SIZE = Long.BYTES;
+    private static final long NO_OWNER = 0;
+
+    private final Path leaseFile;
+    private final int rangeMin;
+    private final int blocks;
+    private final long pid = ProcessHandle.current().pid();
+    // claimed block -> ports of the block that are leased or not available
+    private final Map<Integer, BitSet> claimedBlocks = new LinkedHashMap<>();
+    private int nextBlockToClaim;
+
+    PortLeaseAllocator(Path leaseFolder, int rangeMin, int rangeMax) {
+        this.leaseFile = leaseFolder.resolve(LEASE_FILE);
+        this.rangeMin = rangeMin;
+        this.blocks = (rangeMax - rangeMin + 1) / BLOCK_SIZE;
+        if (blocks == 0) {
+            throw new IllegalArgumentException(String.format("Port range [%d, %d] is smaller than a block of %d ports",
+                    rangeMin, rangeMax, BLOCK_SIZE));
+        }
+
+        // JVMs start looking from different blocks, so they rarely compete for the same records
+        this.nextBlockToClaim = (int) (pid % blocks);
+    }
+
+    /**
+     * @return an available port that no other JVM using the same lease file hands out until it is released.
+     */
+    synchronized int lease() {
+        for (Map.Entry<Integer, BitSet> block : claimedBlocks.entrySet()) {
+            Optional<Integer> port = leaseFromBlock(block.getKey(), block.getValue());
+            if (port.isPresent()) {
+                return port.get();
+            }
+        }
+
+        while (true) {
+            int block = claimBlock();
+            BitSet used = new BitSet(BLOCK_SIZE);
+            claimedBlocks.put(block, used);
+            Optional<Integer> port = leaseFromBlock(block, used);
+            if (port.isPresent()) {
+                return port.get();
+            }
+        }
+    }
+
+    synchronized void release(int port) {
+        int block = (port - rangeMin) / BLOCK_SIZE;
+        BitSet used = claimedBlocks.get(block);
+        if (used != null) {
+            used.clear((port - rangeMin) % BLOCK_SIZE);
+        }
+    }
+
+    /**
+     * Releases all the blocks claimed by this JVM.
+     */
+    synchronized void releaseAll() {
+        if (claimedBlocks.isEmpty()) {
+            return;
+        }
+
+        try (FileChannel channel = openLeaseFile(); FileLock ignored = channel.lock()) {
+            for (int block : claimedBlocks.keySet()) {
+                if (readOwner(channel, block) == pid) {
+                    writeOwner(channel, block, NO_OWNER);
+                }
+            }
+        } catch (IOException e) {
+            Log.debug("Could not release port blocks in %s. Caused by: %s", leaseFile, e.getMessage());
+        }
+
+        claimedBlocks.clear();
+    }
+
+    private Optional<Integer> leaseFromBlock(int block, BitSet used) {
+        int firstPort = rangeMin + block * BLOCK_SIZE;
+        for (int index = used.nextClearBit(0); index < BLOCK_SIZE; index = used.nextClearBit(index + 1)) {
+            // mark it even when the port is not available, as it's probably used by a process of another tool
+            used.set(index);
+            if (isPortAvailable(firstPort + index)) {
+                return Optional.of(firstPort + index);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private int claimBlock() {
+        try (FileChannel channel = openLeaseFile(); FileLock ignored = channel.lock()) {
+            for (int attempt = 0; attempt < blocks; attempt++) {
+                int block = nextBlockToClaim;
+                nextBlockToClaim = (nextBlockToClaim + 1) % blocks;
+                if (claimedBlocks.containsKey(block)) {
+                    continue;
+                }
+
+                long owner = readOwner(channel, block);
+                if (owner == NO_OWNER || owner == pid || !isAlive(owner)) {
+                    writeOwner(channel, block, pid);
+                    return block;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        throw new IllegalStateException(String.format("All the blocks of ports of %s are leased by other processes",
+                leaseFile));
+    }
+
+    private FileChannel openLeaseFile() throws IOException {
+        Files.createDirectories(leaseFile.getParent());
+        return FileChannel.open(leaseFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static long readOwner(FileChannel channel, int block) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+        int read = channel.read(record, (long) block * RECORD_SIZE);
+        // records beyond the end of the file were never claimed
+        return read < RECORD_SIZE ? NO_OWNER : record.flip().getLong();
+    }
+
+    private static void writeOwner(FileChannel channel, int block, long owner) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).putLong(owner).flip();
+        channel.write(record, (long) block * RECORD_SIZE);
+    }
+
+    private static boolean isAlive(long pid) {
+        return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+    }
+
+    private static boolean isPortAvailable(int port) {
+        try (ServerSocket ss = new ServerSocket(port)) {
+            ss.setReuseAddress(true);
+            return true;
+        } catch (IOException ignored) {
+            // do nothing: port not available
+        }
+
+        return false;
+    }
+}
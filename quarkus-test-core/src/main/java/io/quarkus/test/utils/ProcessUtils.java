@@ -1,63 +1,79 @@
 package io.quarkus.test.utils;
 
-import static io.quarkus.test.utils.AwaitilityUtils.tryUntilIsFalse;
-import static io.quarkus.test.utils.AwaitilityUtils.AwaitilitySettings.usingTimeout;
-import static java.time.Duration.ofMinutes;
-
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-
-import org.junit.jupiter.api.condition.OS;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.quarkus.test.logging.Log;
 
 public final class ProcessUtils {
 
-    private static final int PROCESS_KILL_TIMEOUT_MINUTES = 1;
+    private static final Duration PROCESS_TERMINATION_GRACE_PERIOD = Duration.ofMinutes(1);
+    private static final Duration PROCESS_KILL_TIMEOUT = Duration.ofSeconds(30);
 
     private ProcessUtils() {
 
     }
 
+    /**
+     * Stops the process and all its descendants. The whole tree is asked to terminate at once and the exits are awaited
+     * concurrently within a single grace period, after which the processes still alive are forcibly killed.
+     * No helper processes are spawned, and processes that already exited are never signaled.
+     */
     public static void destroy(Process process) {
         try {
             if (process != null) {
-                process.descendants().forEach(child -> {
-                    if (child.supportsNormalTermination()) {
-                        child.destroy();
-                        tryUntilIsFalse(process::isAlive, usingTimeout(ofMinutes(PROCESS_KILL_TIMEOUT_MINUTES)));
-                    }
-
-                    if (child.isAlive()) {
-                        child.destroyForcibly();
+                List<ProcessHandle> tree = aliveProcessTree(process);
+                tree.forEach(ProcessUtils::requestTermination);
+                if (!awaitExit(tree, PROCESS_TERMINATION_GRACE_PERIOD)) {
+                    // descendants might have been spawned in the meantime
+                    Set<ProcessHandle> survivors = new LinkedHashSet<>(tree);
+                    survivors.addAll(aliveProcessTree(process));
+                    survivors.removeIf(handle -> !handle.isAlive());
+                    survivors.forEach(ProcessHandle::destroyForcibly);
+                    if (!awaitExit(survivors, PROCESS_KILL_TIMEOUT)) {
+                        Log.warn("Processes %s are still alive after being killed", survivors.stream()
+                                .filter(ProcessHandle::isAlive)
+                                .map(ProcessHandle::pid)
+                                .collect(Collectors.toList()));
                     }
-
-                    pidKiller(child.pid());
-
-                    tryUntilIsFalse(child::isAlive);
-                });
-
-                if (process.supportsNormalTermination()) {
-                    process.destroy();
-                    process.waitFor(PROCESS_KILL_TIMEOUT_MINUTES, TimeUnit.MINUTES);
                 }
-
-                pidKiller(process.pid());
-                tryUntilIsFalse(process::isAlive);
             }
         } catch (Exception e) {
             Log.warn("Error trying to stop process. Caused by " + e.getMessage());
         }
     }
 
-    private static void pidKiller(long pid) {
+    private static void requestTermination(ProcessHandle handle) {
+        if (handle.supportsNormalTermination()) {
+            handle.destroy();
+        } else {
+            // for example, on Windows
+            handle.destroyForcibly();
+        }
+    }
+
+    private static List<ProcessHandle> aliveProcessTree(Process process) {
+        return Stream.concat(process.descendants(), Stream.of(process.toHandle()))
+                .filter(ProcessHandle::isAlive)
+                .collect(Collectors.toList());
+    }
+
+    private static boolean awaitExit(Iterable<ProcessHandle> processes, Duration timeout) throws Exception {
+        List<CompletableFuture<ProcessHandle>> exits = new ArrayList<>();
+        processes.forEach(handle -> exits.add(handle.onExit()));
         try {
-            if (OS.WINDOWS.isCurrentOs()) {
-                Runtime.getRuntime().exec(new String[] { "cmd", "/C", "taskkill", "/PID", Long.toString(pid), "/F", "/T" });
-            } else {
-                Runtime.getRuntime().exec(new String[] { "kill", "-9", Long.toString(pid) });
-            }
-        } catch (Exception e) {
-            Log.warn("Error stopping process " + pid, e);
+            CompletableFuture.allOf(exits.toArray(new CompletableFuture[0])).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
         }
     }
 }
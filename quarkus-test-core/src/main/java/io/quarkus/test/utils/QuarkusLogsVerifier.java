@@ -21,10 +21,12 @@ public class QuarkusLogsVerifier {
     }
 
     public List<String> installedFeatures() {
-        return service.getLogs().stream()
-                .filter(log -> log.contains(INSTALLED_FEATURES))
-                .flatMap(log -> Stream.of(StringUtils.substringBetween(log, OPEN_TAG, CLOSE_TAG).split(COMMA)))
-                .map(String::trim)
-                .toList();
+        try (Stream<String> logs = service.streamLogs()) {
+            return logs
+                    .filter(log -> log.contains(INSTALLED_FEATURES))
+                    .flatMap(log -> Stream.of(StringUtils.substringBetween(log, OPEN_TAG, CLOSE_TAG).split(COMMA)))
+                    .map(String::trim)
+                    .toList();
+        }
     }
 }
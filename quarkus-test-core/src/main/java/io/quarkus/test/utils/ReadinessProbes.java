@@ -0,0 +1,126 @@
+package io.quarkus.test.utils;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntPredicate;
+
+/**
+ * Futures completed as soon as a resource is ready, so the startup does not need to wait for the next poll.
+ * Probes are retried until they succeed or the future is completed or cancelled by the caller.
+ */
+public final class ReadinessProbes {
+
+    private static final Duration PROBE_INTERVAL = Duration.ofMillis(200);
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(1);
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(
+            new DaemonThreadFactory("readiness-probe"));
+    // requests and their callbacks have their own threads, so slow responses do not delay the scheduled probes
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(PROBE_TIMEOUT)
+            .executor(Executors.newCachedThreadPool(new DaemonThreadFactory("readiness-probe-http")))
+            .build();
+
+    private ReadinessProbes() {
+
+    }
+
+    /**
+     * @return a future that never completes, so only the regular checks are used.
+     */
+    public static CompletableFuture<Void> never() {
+        return new CompletableFuture<>();
+    }
+
+    /**
+     * @return a future completed when any of the probes completes. Completing or cancelling it cancels the probes.
+     */
+    public static CompletableFuture<Void> anyOf(List<CompletableFuture<Void>> probes) {
+        CompletableFuture<Void> any = new CompletableFuture<>();
+        probes.forEach(probe -> probe.thenRun(() -> any.complete(null)));
+        any.whenComplete((r, t) -> probes.forEach(probe -> probe.cancel(false)));
+        return any;
+    }
+
+    /**
+     * @return a future completed when the endpoint responds with HTTP 200, for example `/q/health/ready`.
+     */
+    public static CompletableFuture<Void> http(URI endpoint) {
+        return http(endpoint, status -> status == HttpURLConnection.HTTP_OK);
+    }
+
+    /**
+     * @return a future completed when the endpoint sends any HTTP response, whatever the status code.
+     */
+    public static CompletableFuture<Void> httpResponse(URI endpoint) {
+        return http(endpoint, status -> true);
+    }
+
+    /**
+     * @return a future completed when a TCP connection to the host and port is accepted.
+     */
+    public static CompletableFuture<Void> tcp(String host, int port) {
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        scheduleProbe(() -> canConnect(address), ready);
+        return ready;
+    }
+
+    private static CompletableFuture<Void> http(URI endpoint, IntPredicate expectedStatus) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint).timeout(PROBE_TIMEOUT).GET().build();
+        CompletableFuture<Void> ready = new CompletableFuture<>();
+        scheduleHttpProbe(request, expectedStatus, ready);
+        return ready;
+    }
+
+    private static void scheduleHttpProbe(HttpRequest request, IntPredicate expectedStatus, CompletableFuture<Void> ready) {
+        SCHEDULER.schedule(() -> {
+            if (ready.isDone()) {
+                return;
+            }
+
+            HTTP_CLIENT.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                if (response != null && expectedStatus.test(response.statusCode())) {
+                    ready.complete(null);
+                } else {
+                    scheduleHttpProbe(request, expectedStatus, ready);
+                }
+            });
+        }, PROBE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void scheduleProbe(BooleanSupplier probe, CompletableFuture<Void> ready) {
+        SCHEDULER.schedule(() -> {
+            if (ready.isDone()) {
+                return;
+            }
+
+            if (probe.getAsBoolean()) {
+                ready.complete(null);
+            } else {
+                scheduleProbe(probe, ready);
+            }
+        }, PROBE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static boolean canConnect(InetSocketAddress address) {
+        try (Socket socket = new Socket()) {
+            socket.connect(address, (int) PROBE_INTERVAL.toMillis());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
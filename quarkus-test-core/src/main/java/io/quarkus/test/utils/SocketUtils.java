@@ -1,37 +1,107 @@
 package io.quarkus.test.utils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.quarkus.test.bootstrap.Service;
+import io.quarkus.test.configuration.Configuration;
 import io.quarkus.test.configuration.PropertyLookup;
+import io.quarkus.test.logging.Log;
 
 public final class SocketUtils {
 
     private static final PropertyLookup PORT_RANGE_MIN_PROPERTY = new PropertyLookup("port.range.min", "1100");
     private static final PropertyLookup PORT_RANGE_MAX_PROPERTY = new PropertyLookup("port.range.max", "49151");
     private static final PropertyLookup PORT_RESOLUTION_STRATEGY_PROPERTY = new PropertyLookup("port.resolution.strategy");
+    private static final PropertyLookup PORT_LEASE_DIR_PROPERTY = new PropertyLookup(
+            Configuration.Property.PORT_LEASE_DIR.getName(),
+            Path.of(System.getProperty("java.io.tmpdir"), "quarkus-test-framework").toString());
 
     private static final int PORT_RANGE_MIN = PORT_RANGE_MIN_PROPERTY.getAsInteger();
     private static final int PORT_RANGE_MAX = PORT_RANGE_MAX_PROPERTY.getAsInteger();
     private static final String PORT_RESOLUTION_RANDOM_STRATEGY = "random";
+    private static final String PORT_RESOLUTION_LEASE_STRATEGY = "lease";
 
     private static final AtomicInteger CURRENT_MIN_PORT = new AtomicInteger(PORT_RANGE_MIN);
     private static final Random RND = new Random(System.nanoTime());
+    private static final Map<Service, List<Integer>> SERVICE_PORTS = new IdentityHashMap<>();
+
+    private static PortLeaseAllocator leaseAllocator;
 
     private SocketUtils() {
 
     }
 
+    /**
+     * Finds an available port using the strategy set by `ts.global.port.resolution.strategy`. Using `lease`, the port
+     * is leased, so no other test JVM of the host uses it until it's released by {@link #releasePort(int)}, see
+     * {@link PortLeaseAllocator}. The strategies `incremental` and `random` only check that the port is available.
+     */
     public static synchronized int findAvailablePort() {
-        if (PORT_RESOLUTION_RANDOM_STRATEGY.equals(PORT_RESOLUTION_STRATEGY_PROPERTY.get())) {
+        String strategy = PORT_RESOLUTION_STRATEGY_PROPERTY.get();
+        if (PORT_RESOLUTION_RANDOM_STRATEGY.equals(strategy)) {
             return findRandomAvailablePort();
+        } else if (PORT_RESOLUTION_LEASE_STRATEGY.equals(strategy)) {
+            return findLeasedPort();
         }
 
         return findNextAvailablePort();
     }
 
+    /**
+     * Finds an available port like {@link #findAvailablePort()}, which is released when the service stops, so the
+     * callers don't need to release it.
+     */
+    public static synchronized int findAvailablePort(Service owner) {
+        int port = findAvailablePort();
+        SERVICE_PORTS.computeIfAbsent(owner, service -> new ArrayList<>()).add(port);
+        return port;
+    }
+
+    /**
+     * Releases a port found by {@link #findAvailablePort()}, so it can be handed out again.
+     */
+    public static synchronized void releasePort(int port) {
+        if (leaseAllocator != null) {
+            leaseAllocator.release(port);
+        }
+    }
+
+    /**
+     * Releases all the ports found for the service by {@link #findAvailablePort(Service)}.
+     */
+    public static synchronized void releasePorts(Service owner) {
+        List<Integer> ports = SERVICE_PORTS.remove(owner);
+        if (ports != null) {
+            ports.forEach(SocketUtils::releasePort);
+        }
+    }
+
+    private static int findLeasedPort() {
+        try {
+            if (leaseAllocator == null) {
+                leaseAllocator = new PortLeaseAllocator(Path.of(PORT_LEASE_DIR_PROPERTY.get()), PORT_RANGE_MIN,
+                        PORT_RANGE_MAX);
+                PortLeaseAllocator allocator = leaseAllocator;
+                Runtime.getRuntime().addShutdownHook(new Thread(allocator::releaseAll, "port-lease-release"));
+            }
+
+            return leaseAllocator.lease();
+        } catch (UncheckedIOException | IllegalArgumentException | IllegalStateException e) {
+            // the blocks of ports can be all leased by other JVMs
+            Log.warn("Could not lease a port, falling back to the next available port. Caused by: %s", e.getMessage());
+            return findNextAvailablePort();
+        }
+    }
+
     public static int findRandomAvailablePort() {
         int portRange = PORT_RANGE_MAX - PORT_RANGE_MIN;
         int candidatePort;
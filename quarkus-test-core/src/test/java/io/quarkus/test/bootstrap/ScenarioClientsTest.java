@@ -0,0 +1,54 @@
+package io.quarkus.test.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import io.quarkus.test.security.certificate.Certificate;
+
+public class ScenarioClientsTest {
+
+    private final ScenarioClients clients = new ScenarioClients();
+
+    @Test
+    public void testClientIsOnlyInvalidatedByItsInstance() {
+        Object first = clients.getOrCreate("key", Object::new, client -> {
+        });
+        clients.invalidate("key", first);
+        Object second = clients.getOrCreate("key", Object::new, client -> {
+        });
+        assertNotSame(first, second);
+
+        // closing the first client again must not invalidate the new one
+        clients.invalidate("key", first);
+        assertSame(second, clients.getOrCreate("key", Object::new, client -> {
+        }));
+    }
+
+    @Test
+    public void testCertificateKeyChangesWhenTheCertificateIsRegenerated(@TempDir Path folder) throws IOException {
+        Path keystore = Files.writeString(folder.resolve("keystore.p12"), "keystore");
+        Files.setLastModifiedTime(keystore, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        Certificate certificate = Mockito.mock(Certificate.class);
+        Mockito.when(certificate.keystorePath()).thenReturn(keystore.toString());
+        Mockito.when(certificate.clientCertificates()).thenReturn(List.of());
+
+        List<Object> key = ScenarioClients.certificateKey(certificate);
+        assertEquals(key, ScenarioClients.certificateKey(certificate));
+
+        Files.writeString(keystore, "regenerated");
+        assertNotEquals(key, ScenarioClients.certificateKey(certificate));
+    }
+}
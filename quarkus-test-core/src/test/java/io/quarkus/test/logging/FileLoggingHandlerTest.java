@@ -0,0 +1,32 @@
+package io.quarkus.test.logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileLoggingHandlerTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testLogsAreMatchedFromTheFileWhenNotWatching() throws IOException {
+        Path file = Files.writeString(folder.resolve("app.log"), "Installed features: [cdi]\n");
+        FileLoggingHandler handler = new FileLoggingHandler(file.toFile());
+        assertTrue(handler.logsContains("Installed features"));
+
+        handler.startWatching();
+        assertTrue(handler.logsContains("Installed features"));
+        handler.stopWatching();
+
+        assertTrue(handler.logsContains("Installed features"), "Lines must be found after watching is stopped");
+        assertTrue(handler.logsContains("features: \\[.*\\]"));
+        assertFalse(handler.logsContains("Stopped"));
+    }
+}
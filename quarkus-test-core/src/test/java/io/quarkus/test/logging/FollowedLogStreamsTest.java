@@ -0,0 +1,130 @@
+package io.quarkus.test.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+public class FollowedLogStreamsTest {
+
+    private final Map<String, OutputStream> outputs = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> done = new HashMap<>();
+    private final Map<String, Instant> since = new HashMap<>();
+    private final List<String> closed = new ArrayList<>();
+    private final FollowedLogStreams streams = new FollowedLogStreams((name, from, output) -> {
+        outputs.put(name, output);
+        since.put(name, from);
+        done.put(name, new CompletableFuture<>());
+        return new FollowedLogStreams.Following(() -> closed.add(name), done.get(name));
+    }, () -> {
+    });
+
+    @Test
+    public void testOnlyCompleteLinesAreHandedOver() throws IOException {
+        streams.followOnly(Set.of("pod-app"));
+        write("pod-app", "Starting\r\nInstalled fea");
+        assertEquals(List.of("[pod-app] Starting"), drain());
+
+        write("pod-app", "tures\n");
+        assertEquals(List.of("Installed features"), drain());
+    }
+
+    @Test
+    public void testEndedStreamsAreFollowedSinceTheLastOutput() throws IOException {
+        streams.followOnly(Set.of("pod-app"));
+        assertNull(since.get("pod-app"));
+        write("pod-app", "line\n");
+        done.get("pod-app").complete(null);
+
+        streams.followOnly(Set.of("pod-app"));
+        assertNotNull(since.get("pod-app"));
+        assertEquals(List.of("[pod-app] line"), drain());
+    }
+
+    @Test
+    public void testStreamsNotGivenAnymoreAreClosed() throws IOException {
+        streams.followOnly(Set.of("pod-1", "pod-2"));
+        write("pod-1", "incomplete");
+        streams.followOnly(Set.of("pod-2"));
+        assertEquals(List.of("pod-1"), closed);
+
+        streams.close();
+        assertTrue(closed.contains("pod-2"));
+    }
+
+    @Test
+    public void testIncompleteLineIsDroppedWhenFollowedAgain() throws IOException {
+        streams.followOnly(Set.of("pod-app"));
+        write("pod-app", "first\nsecond li");
+        done.get("pod-app").complete(null);
+
+        streams.followOnly(Set.of("pod-app"));
+        write("pod-app", "second line\n");
+        assertEquals(List.of("[pod-app] first", "second line"), drain());
+    }
+
+    @Test
+    public void testNewLinesAreNotifiedWithoutHoldingTheOutput() {
+        Object handlerLock = new Object();
+        CountDownLatch notifying = new CountDownLatch(1);
+        FollowedLogStreams followed = new FollowedLogStreams((name, from, output) -> {
+            outputs.put(name, output);
+            return new FollowedLogStreams.Following(() -> {
+            }, new CompletableFuture<>());
+        }, () -> {
+            notifying.countDown();
+            synchronized (handlerLock) {
+                // like a handler draining the lines
+            }
+        });
+        followed.followOnly(Set.of("pod-app"));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            synchronized (handlerLock) {
+                Thread pump = new Thread(() -> {
+                    try {
+                        write("pod-app", "line\nincomplete");
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                pump.start();
+                notifying.await();
+                // like a handler that stops watching
+                followed.close();
+            }
+        });
+
+        List<String> lines = new ArrayList<>();
+        followed.drainLines(lines::add);
+        assertEquals(List.of("[pod-app] line", "incomplete"), lines);
+    }
+
+    private void write(String name, String content) throws IOException {
+        outputs.get(name).write(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<String> drain() {
+        List<String> lines = new ArrayList<>();
+        streams.drainLines(lines::add);
+        return lines;
+    }
+}
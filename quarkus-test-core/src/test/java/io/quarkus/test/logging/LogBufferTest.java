@@ -0,0 +1,75 @@
+package io.quarkus.test.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LogBufferTest {
+
+    private static final int LINES = 5000;
+
+    @Test
+    public void testUnboundedBufferKeepsAllLines() {
+        LogBuffer buffer = LogBuffer.unbounded();
+        fill(buffer);
+
+        assertEquals(expectedLines(0), buffer.lines().toList());
+        assertEquals(expectedLines(0), buffer.snapshot().retainedLines());
+        assertEquals(List.of("line-4998", "line-4999"), buffer.snapshot().lines(4998).toList());
+    }
+
+    @Test
+    public void testBoundedBufferEvictsOldestLines() {
+        LogBuffer buffer = LogBuffer.bounded(100, LogBuffer.UNLIMITED, null);
+        fill(buffer);
+
+        LogBuffer.Snapshot snapshot = buffer.snapshot();
+        assertEquals(LINES, snapshot.lineCount());
+        assertEquals(expectedLines(snapshot.firstAvailableLine()), buffer.lines().toList());
+        assertEquals(expectedLines(snapshot.firstAvailableLine()), snapshot.retainedLines());
+        assertTrue(buffer.lines().count() <= 100);
+    }
+
+    @Test
+    public void testBytesAreCountedEncoded() {
+        LogBuffer buffer = LogBuffer.bounded(LogBuffer.UNLIMITED, 64 * 3, null);
+        IntStream.range(0, 65).forEach(index -> buffer.add("\u20ac"));
+
+        // 65 lines of one char would fit, but they take 3 bytes each in UTF-8
+        assertEquals(1, buffer.snapshot().retainedLines().size());
+    }
+
+    @Test
+    public void testEvictedLinesAreStreamedFromSpillFile(@TempDir Path folder) throws IOException {
+        try (LogBuffer buffer = LogBuffer.bounded(100, LogBuffer.UNLIMITED, folder)) {
+            fill(buffer);
+
+            assertEquals(0, buffer.snapshot().firstAvailableLine());
+            assertTrue(buffer.snapshot().hasSpilledLines());
+            try (Stream<String> lines = buffer.lines()) {
+                assertEquals(expectedLines(0), lines.toList());
+            }
+
+            try (Stream<Path> files = Files.list(folder)) {
+                assertEquals(1, files.count());
+            }
+        }
+    }
+
+    private static void fill(LogBuffer buffer) {
+        IntStream.range(0, LINES).forEach(index -> buffer.add("line-" + index));
+    }
+
+    private static List<String> expectedLines(long from) {
+        return IntStream.range((int) from, LINES).mapToObj(index -> "line-" + index).toList();
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.test.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LogFileTailerTest {
+
+    @TempDir
+    Path folder;
+
+    private Path file;
+    private LogFileTailer tailer;
+
+    @BeforeEach
+    public void setup() {
+        file = folder.resolve("out.log");
+        tailer = new LogFileTailer(file.toFile());
+    }
+
+    @Test
+    public void testMissingFileReturnsNoLines() {
+        assertEquals("", tailer.readNewLines());
+    }
+
+    @Test
+    public void testOnlyAppendedLinesAreReturned() throws IOException {
+        append("first\nsecond\n");
+        assertEquals("first\nsecond\n", tailer.readNewLines());
+
+        append("third\n");
+        assertEquals("third\n", tailer.readNewLines());
+        assertEquals("", tailer.readNewLines());
+    }
+
+    @Test
+    public void testIncompleteLineIsCarriedOver() throws IOException {
+        append("first\nsec");
+        assertEquals("first\n", tailer.readNewLines());
+
+        append("ond\nthi");
+        assertEquals("second\n", tailer.readNewLines());
+        assertEquals("thi", tailer.readRemainingLines());
+    }
+
+    @Test
+    public void testTruncatedFileIsReadFromStart() throws IOException {
+        append("a long line before the restart\n");
+        assertEquals("a long line before the restart\n", tailer.readNewLines());
+
+        Files.writeString(file, "new\n", StandardOpenOption.TRUNCATE_EXISTING);
+        assertEquals("new\n", tailer.readNewLines());
+    }
+
+    private void append(String content) throws IOException {
+        Files.writeString(file, content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.test.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class LogMatcherTest {
+
+    @Test
+    public void testMatchesBySimpleContains() {
+        LogMatcher matcher = new LogMatcher("features: [cdi");
+        assertEquals(1, matcher.firstMatchingLine(bufferOf("starting", "Installed features: [cdi, rest]")));
+    }
+
+    @Test
+    public void testMatchesByRegularExpression() {
+        LogMatcher matcher = new LogMatcher("started in \\d+\\.\\d+s");
+        assertEquals(0, matcher.firstMatchingLine(bufferOf("app started in 1.234s")));
+    }
+
+    @Test
+    public void testOnlyAppendedLinesAreEvaluated() {
+        LogBuffer logs = bufferOf("first");
+        LogMatcher matcher = new LogMatcher("Installed features");
+        assertEquals(-1, matcher.firstMatchingLine(logs));
+
+        logs.add("Installed features: [cdi]");
+        logs.add("Installed features: [rest]");
+        assertEquals(1, matcher.firstMatchingLine(logs));
+        assertEquals(1, matcher.firstMatchingLine(logs));
+    }
+
+    @Test
+    public void testNewBufferIsEvaluatedFromStart() {
+        LogMatcher matcher = new LogMatcher("Installed features");
+        assertEquals(0, matcher.firstMatchingLine(bufferOf("Installed features: [cdi]")));
+        assertEquals(-1, matcher.firstMatchingLine(bufferOf("restarting")));
+    }
+
+    private static LogBuffer bufferOf(String... lines) {
+        LogBuffer buffer = LogBuffer.unbounded();
+        for (String line : lines) {
+            buffer.add(line);
+        }
+
+        return buffer;
+    }
+}
@@ -0,0 +1,37 @@
+package io.quarkus.test.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.metrics.StartupStatistics.Metric;
+
+public class StartupStatisticsTest {
+
+    private final StartupStatistics statistics = new StartupStatistics(IntStream.rangeClosed(1, 10)
+            .mapToObj(i -> new StartupMeasurement(ProcessHandle.current(), System.nanoTime(), Duration.ofMillis(i * 10)))
+            .toList());
+
+    @Test
+    public void testPercentiles() {
+        assertEquals(10, statistics.percentile(Metric.SPAWN_TIME, 0).getAsLong());
+        assertEquals(50, statistics.percentile(Metric.SPAWN_TIME, 50).getAsLong());
+        assertEquals(90, statistics.percentile(Metric.SPAWN_TIME, 90).getAsLong());
+        assertEquals(100, statistics.percentile(Metric.SPAWN_TIME, 99).getAsLong());
+        assertTrue(statistics.percentile(Metric.TIME_TO_FIRST_RESPONSE, 50).isEmpty());
+    }
+
+    @Test
+    public void testThresholds() {
+        statistics.assertPercentileBelow(Metric.SPAWN_TIME, 90, 90);
+        assertThrows(AssertionError.class, () -> statistics.assertPercentileBelow(Metric.SPAWN_TIME, 90, 89));
+        assertThrows(AssertionError.class, () -> statistics.assertPercentileBelow(Metric.TIME_TO_FIRST_RESPONSE, 90, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new StartupStatistics(List.of()).percentile(Metric.SPAWN_TIME, 101));
+    }
+}
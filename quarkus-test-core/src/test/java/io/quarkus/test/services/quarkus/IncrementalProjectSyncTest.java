@@ -0,0 +1,52 @@
+package io.quarkus.test.services.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IncrementalProjectSyncTest {
+
+    private static final FileTime PREVIOUS_BUILD = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testOnlyChangedFilesAreReplaced() throws IOException {
+        Path project = folder.resolve("project");
+        write(project.resolve("pom.xml"), "<project/>");
+        write(project.resolve("src/main/java/App.java"), "class App {}");
+        write(project.resolve("src/main/java/Removed.java"), "class Removed {}");
+        write(project.resolve("target/classes/App.class"), "bytecode");
+        Files.setLastModifiedTime(project.resolve("pom.xml"), PREVIOUS_BUILD);
+
+        Path staged = folder.resolve("project.staging");
+        write(staged.resolve("pom.xml"), "<project/>");
+        write(staged.resolve("src/main/java/App.java"), "class App { int changed; }");
+        write(staged.resolve("src/main/resources/application.properties"), "quarkus.http.port=8081");
+
+        IncrementalProjectSync.sync(staged, project, Set.of("target"));
+
+        assertEquals(PREVIOUS_BUILD, Files.getLastModifiedTime(project.resolve("pom.xml")), "Unchanged file was replaced");
+        assertEquals("class App { int changed; }", Files.readString(project.resolve("src/main/java/App.java")));
+        assertTrue(Files.exists(project.resolve("src/main/resources/application.properties")));
+        assertFalse(Files.exists(project.resolve("src/main/java/Removed.java")), "Obsolete file was not removed");
+        assertTrue(Files.exists(project.resolve("target/classes/App.class")), "Preserved folder was modified");
+        assertFalse(Files.exists(staged), "Staged project was not deleted");
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
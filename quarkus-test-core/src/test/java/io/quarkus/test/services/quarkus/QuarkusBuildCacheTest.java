@@ -0,0 +1,82 @@
+package io.quarkus.test.services.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class QuarkusBuildCacheTest {
+
+    private static final List<String> BUILD_ARGS = List.of("clean", "install");
+
+    @TempDir
+    Path folder;
+
+    private Path project;
+    private QuarkusBuildCache cache;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        project = folder.resolve("mvn-build");
+        write(project.resolve("pom.xml"), "<project/>");
+        write(project.resolve("src/main/java/App.java"), "class App {}");
+        write(project.resolve("src/main/resources/application.properties"), "quarkus.http.port=8080");
+        cache = new QuarkusBuildCache(folder.resolve("cache"));
+    }
+
+    @Test
+    public void testKeyDependsOnProjectContentAndBuildArguments() throws IOException {
+        String key = cache.computeKey(project, BUILD_ARGS);
+        assertEquals(key, cache.computeKey(project, BUILD_ARGS));
+        assertNotEquals(key, cache.computeKey(project, List.of("clean", "install", "-Dnative")));
+
+        // built artifacts are not part of the key
+        write(project.resolve("target/quarkus-app/quarkus-run.jar"), "jar");
+        assertEquals(key, cache.computeKey(project, BUILD_ARGS));
+
+        write(project.resolve("src/main/resources/application.properties"), "quarkus.http.port=8081");
+        assertNotEquals(key, cache.computeKey(project, BUILD_ARGS));
+    }
+
+    @Test
+    public void testStoredApplicationFolderIsRestored() throws IOException {
+        String key = cache.computeKey(project, BUILD_ARGS);
+        Path target = project.resolve("target");
+        assertFalse(cache.restore(key, target));
+
+        write(target.resolve("quarkus-app/quarkus-run.jar"), "jar");
+        write(target.resolve("quarkus-app/lib/main/dependency.jar"), "dependency");
+        cache.store(key, target, target.resolve("quarkus-app/quarkus-run.jar"));
+
+        Path otherTarget = folder.resolve("other-build/target");
+        assertTrue(cache.restore(key, otherTarget));
+        assertEquals("jar", Files.readString(otherTarget.resolve("quarkus-app/quarkus-run.jar")));
+        assertEquals("dependency", Files.readString(otherTarget.resolve("quarkus-app/lib/main/dependency.jar")));
+    }
+
+    @Test
+    public void testStoredExecutableIsRestored() throws IOException {
+        String key = cache.computeKey(project, List.of("clean", "install", "-Dnative"));
+        Path target = project.resolve("target");
+        write(target.resolve("app-runner"), "executable");
+        cache.store(key, target, target.resolve("app-runner"));
+
+        Path otherTarget = folder.resolve("other-build/target");
+        assertTrue(cache.restore(key, otherTarget));
+        assertEquals("executable", Files.readString(otherTarget.resolve("app-runner")));
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
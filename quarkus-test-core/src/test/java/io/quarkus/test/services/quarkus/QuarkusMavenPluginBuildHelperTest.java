@@ -22,6 +22,8 @@ import io.quarkus.test.services.Dependency;
 
 class QuarkusMavenPluginBuildHelperTest {
 
+    private static final String INCREMENTAL_BUILD = Configuration.Property.CUSTOM_BUILD_INCREMENTAL.getName();
+
     @Test
     public void testFormatting() throws IOException {
         Dependency[] additionalBoms = new Dependency[1];
@@ -81,6 +83,38 @@ class QuarkusMavenPluginBuildHelperTest {
         Assertions.assertEquals("        <scope>import</scope>", lines.get(startline + 14));
     }
 
+    @Test
+    public void testIncrementalBuildKeepsCompiledClasses() throws IOException {
+        System.setProperty(INCREMENTAL_BUILD, Boolean.TRUE.toString());
+        try {
+            Path serviceFolder = Paths.get("target/QuarkusMavenPluginBuildHelperTest/incremental");
+            QuarkusMavenPluginBuildHelper helper = new QuarkusMavenPluginBuildHelper(prepareBuilder(serviceFolder));
+            helper.prepareApplicationFolder();
+            Assertions.assertFalse(List.of(helper.getBuildCmd(List.of())).contains("clean"),
+                    "Incremental build must not clean the compiled classes");
+
+            Path compiledClass = helper.prepareBuildProject().resolve("target/classes/App.class");
+            Files.createDirectories(compiledClass.getParent());
+            Files.writeString(compiledClass, "bytecode");
+
+            // the next build of the same service prepares the project again
+            helper = new QuarkusMavenPluginBuildHelper(prepareBuilder(serviceFolder));
+            helper.prepareApplicationFolder();
+            Assertions.assertEquals(compiledClass.getParent().getParent().getParent(), helper.prepareBuildProject());
+            Assertions.assertTrue(Files.exists(compiledClass), "Compiled classes of the previous build were deleted");
+        } finally {
+            System.clearProperty(INCREMENTAL_BUILD);
+        }
+    }
+
+    @Test
+    public void testBuildCleansByDefault() {
+        QuarkusMavenPluginBuildHelper helper = new QuarkusMavenPluginBuildHelper(
+                prepareBuilder(Paths.get("target/QuarkusMavenPluginBuildHelperTest/default")));
+        List<String> buildCmd = List.of(helper.getBuildCmd(List.of()));
+        Assertions.assertEquals(buildCmd.indexOf("install") - 1, buildCmd.indexOf("clean"));
+    }
+
     private ProdQuarkusApplicationManagedResourceBuilder prepareBuilder(Path serviceFolder) {
         ProdQuarkusApplicationManagedResourceBuilder builder = new ProdQuarkusApplicationManagedResourceBuilder();
         ServiceContext context = Mockito.mock(ServiceContext.class);
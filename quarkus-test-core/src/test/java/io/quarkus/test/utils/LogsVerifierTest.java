@@ -25,7 +25,7 @@ public class LogsVerifierTest {
 
     @Test
     public void testAssertContainsWithDefaultMessage() {
-        when(service.getLogs()).thenReturn(List.of("relevante log line"));
+        givenLogs(List.of("relevante log line"));
 
         AssertionError error = assertThrows(AssertionError.class, () -> {
             verifier.assertContains("missing log");
@@ -37,7 +37,7 @@ public class LogsVerifierTest {
 
     @Test
     public void testAssertContainsWithCustomMessage() {
-        when(service.getLogs()).thenReturn(List.of("relevante log line"));
+        givenLogs(List.of("relevante log line"));
         String customMessage = "Custom failure message - issue 123";
 
         AssertionError error = assertThrows(AssertionError.class, () -> {
@@ -49,8 +49,7 @@ public class LogsVerifierTest {
 
     @Test
     public void testAssertDoesNotContainWithDefaultMessage() {
-        List<String> logs = List.of("unexpected log line");
-        when(service.getLogs()).thenReturn(logs);
+        givenLogs(List.of("unexpected log line"));
 
         AssertionError error = assertThrows(AssertionError.class, () -> {
             verifier.assertDoesNotContain("unexpected log line");
@@ -61,7 +60,7 @@ public class LogsVerifierTest {
 
     @Test
     public void testAssertDoesNotContainWithCustomMessage() {
-        when(service.getLogs()).thenReturn(List.of("unexpected log line"));
+        givenLogs(List.of("unexpected log line"));
         String customMessage = "Unexpected string found - issue 456";
 
         AssertionError error = assertThrows(AssertionError.class, () -> {
@@ -70,4 +69,9 @@ public class LogsVerifierTest {
 
         assertEquals(customMessage, error.getMessage());
     }
+
+    private void givenLogs(List<String> logs) {
+        when(service.getLogs()).thenReturn(logs);
+        when(service.streamLogs()).thenAnswer(invocation -> logs.stream());
+    }
 }
@@ -0,0 +1,70 @@
+package io.quarkus.test.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class NamespacePoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final NamespacePool pool = new NamespacePool("namespace", 2, () -> "ns-" + created.incrementAndGet(),
+            deleted::add);
+
+    @Test
+    public void testUnusedNamespacesAreDeleted() {
+        String first = pool.take();
+        String second = pool.take();
+        assertNotEquals(first, second);
+
+        pool.deleteAll();
+        assertEquals(4, created.get());
+        assertEquals(2, deleted.size());
+        assertFalse(deleted.contains(first));
+        assertFalse(deleted.contains(second));
+    }
+
+    @Test
+    public void testReleasedNamespacesAreDeleted() {
+        String namespace = pool.take();
+        pool.release(namespace);
+
+        pool.deleteAll();
+        assertTrue(deleted.contains(namespace));
+    }
+
+    @Test
+    public void testSlowDeletionsDoNotDelayCreations() {
+        CountDownLatch deletion = new CountDownLatch(1);
+        NamespacePool slowPool = new NamespacePool("namespace", 1, () -> "ns-" + created.incrementAndGet(), namespace -> {
+            try {
+                deletion.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            deleted.add(namespace);
+        });
+        Set<String> released = Set.of("a", "b", "c", "d", "e");
+        released.forEach(slowPool::release);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            slowPool.take();
+            slowPool.take();
+        });
+
+        deletion.countDown();
+        slowPool.deleteAll();
+        assertTrue(deleted.containsAll(released));
+    }
+}
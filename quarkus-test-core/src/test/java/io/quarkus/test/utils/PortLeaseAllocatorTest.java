@@ -0,0 +1,48 @@
+package io.quarkus.test.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PortLeaseAllocatorTest {
+
+    private static final int RANGE_MIN = 42000;
+    private static final int RANGE_MAX = 42999;
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void testLeasedPortsAreNotHandedOutTwice() {
+        PortLeaseAllocator allocator = new PortLeaseAllocator(folder, RANGE_MIN, RANGE_MAX);
+        Set<Integer> ports = new HashSet<>();
+        // more than one block
+        for (int i = 0; i < PortLeaseAllocator.BLOCK_SIZE + 1; i++) {
+            int port = allocator.lease();
+            assertTrue(port >= RANGE_MIN && port <= RANGE_MAX, "Port out of range: " + port);
+            assertTrue(ports.add(port), "Port leased twice: " + port);
+        }
+
+        allocator.releaseAll();
+    }
+
+    @Test
+    public void testReleasedPortIsHandedOutAgain() {
+        PortLeaseAllocator allocator = new PortLeaseAllocator(folder, RANGE_MIN, RANGE_MAX);
+        int first = allocator.lease();
+        int second = allocator.lease();
+        assertNotEquals(first, second);
+
+        allocator.release(first);
+        assertEquals(first, allocator.lease());
+
+        allocator.releaseAll();
+    }
+}
@@ -1,6 +1,9 @@
 package io.quarkus.test.bootstrap.inject;
 
 import static io.quarkus.test.configuration.Configuration.Property.KUBERNETES_EPHEMERAL_NAMESPACES;
+import static io.quarkus.test.configuration.Configuration.Property.KUBERNETES_NAMESPACE_POOL;
+import static io.quarkus.test.configuration.Configuration.Property.KUBERNETES_NAMESPACE_POOL_SIZE;
+import static io.quarkus.test.configuration.Configuration.Property.KUBERNETES_NATIVE_API;
 import static io.quarkus.test.model.CustomVolume.VolumeType.CONFIG_MAP;
 import static io.quarkus.test.model.CustomVolume.VolumeType.SECRET;
 import static io.quarkus.test.utils.PropertiesUtils.DESTINATION_TO_FILENAME_SEPARATOR;
@@ -18,11 +21,13 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -54,6 +59,7 @@ import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable;
 import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
 import io.fabric8.kubernetes.client.impl.KubernetesClientImpl;
@@ -64,15 +70,23 @@ import io.quarkus.test.logging.Log;
 import io.quarkus.test.model.CustomVolume;
 import io.quarkus.test.utils.Command;
 import io.quarkus.test.utils.FileUtils;
+import io.quarkus.test.utils.NamespacePool;
 import io.quarkus.test.utils.PropertiesUtils;
 
 public final class KubectlClient {
 
     public static final String LABEL_TO_WATCH_FOR_LOGS = "tsLogWatch";
     public static final String LABEL_SCENARIO_ID = "scenarioId";
+    public static final String LABEL_NAMESPACE_POOL = "tsNamespacePool";
     public static final PropertyLookup ENABLED_EPHEMERAL_NAMESPACES = new PropertyLookup(
             KUBERNETES_EPHEMERAL_NAMESPACES.getName(),
             Boolean.TRUE.toString());
+    private static final PropertyLookup ENABLED_NATIVE_API = new PropertyLookup(KUBERNETES_NATIVE_API.getName(),
+            Boolean.FALSE.toString());
+    private static final PropertyLookup ENABLED_NAMESPACE_POOL = new PropertyLookup(KUBERNETES_NAMESPACE_POOL.getName(),
+            Boolean.FALSE.toString());
+    private static final PropertyLookup NAMESPACE_POOL_SIZE = new PropertyLookup(KUBERNETES_NAMESPACE_POOL_SIZE.getName(),
+            "1");
     private static final String RESOURCE_MNT_FOLDER = "/resource";
     private static final int NAMESPACE_NAME_SIZE = 10;
     private static final int NAMESPACE_CREATION_RETRIES = 5;
@@ -81,14 +95,18 @@ public final class KubectlClient {
 
     private static final String KUBECTL = "kubectl";
     private static final int HTTP_PORT_DEFAULT = 80;
+
+    private static NamespacePool namespacePool;
+
     private final String currentNamespace;
     private final KubernetesClientImpl client;
+    private final KubernetesApiOperations api;
     private final String scenarioId;
 
     private KubectlClient(String scenarioUniqueName) {
         this.scenarioId = scenarioUniqueName;
         if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean()) {
-            currentNamespace = createNamespace();
+            currentNamespace = ENABLED_NAMESPACE_POOL.getAsBoolean() ? namespacePool().take() : createNamespace(Map.of());
             Config config = new ConfigBuilder().withTrustCerts(true).withNamespace(currentNamespace).build();
             client = createClient(config);
         } else {
@@ -96,6 +114,7 @@ public final class KubectlClient {
             client = createClient(config);
             currentNamespace = client.getNamespace();
         }
+        api = new KubernetesApiOperations(client, currentNamespace);
         setCurrentSessionNamespace(currentNamespace);
     }
 
@@ -122,8 +141,12 @@ public final class KubectlClient {
      */
     public void apply(Service service, Path file) {
         try {
-            new Command(KUBECTL, "apply", "-f", file.toAbsolutePath().toString(), "-n", currentNamespace)
-                    .runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.apply(file, currentNamespace);
+            } else {
+                new Command(KUBECTL, "apply", "-f", file.toAbsolutePath().toString(), "-n", currentNamespace)
+                        .runAndWait();
+            }
         } catch (Exception e) {
             fail("Failed to apply resource " + file.toAbsolutePath() + " for " + service.getName() + ". Caused by "
                     + e.getMessage());
@@ -177,8 +200,12 @@ public final class KubectlClient {
      */
     public void expose(Service service, Integer port) {
         try {
-            new Command(KUBECTL, "expose", "deployment", service.getName(), "--port=" + port, "--name=" + service.getName(),
-                    "--type=NodePort", "-n", currentNamespace).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.exposeDeployment(service.getName(), service.getName(), port);
+            } else {
+                new Command(KUBECTL, "expose", "deployment", service.getName(), "--port=" + port,
+                        "--name=" + service.getName(), "--type=NodePort", "-n", currentNamespace).runAndWait();
+            }
         } catch (Exception e) {
             fail("Service failed to be exposed. Caused by " + e.getMessage());
         }
@@ -192,8 +219,12 @@ public final class KubectlClient {
      */
     public void scaleTo(Service service, int replicas) {
         try {
-            new Command(KUBECTL, "scale", "deployment/" + service.getName(), "--replicas=" + replicas, "-n", currentNamespace)
-                    .runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.scale(service.getName(), replicas);
+            } else {
+                new Command(KUBECTL, "scale", "deployment/" + service.getName(), "--replicas=" + replicas,
+                        "-n", currentNamespace).runAndWait();
+            }
         } catch (Exception e) {
             fail("Service failed to be scaled. Caused by " + e.getMessage());
         }
@@ -239,6 +270,22 @@ public final class KubectlClient {
         return logs;
     }
 
+    /**
+     * @return the running pods of the service.
+     */
+    public List<Pod> runningPodsInService(Service service) {
+        return podsInService(service).stream().filter(this::isPodRunning).toList();
+    }
+
+    /**
+     * Follows the log of the container, writing the new output as it arrives.
+     *
+     * @param since the time from which the log is followed, or null to follow it from the beginning.
+     */
+    public LogWatch watchLog(String podName, String containerName, Instant since, OutputStream output) {
+        return BaseKubernetesApiOperations.watchLog(client, podName, containerName, since, output);
+    }
+
     /**
      * Get node host IP.
      */
@@ -278,7 +325,11 @@ public final class KubectlClient {
     public void deleteNamespace() {
         if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean()) {
             try {
-                new Command(KUBECTL, "delete", "namespace", currentNamespace).runAndWait();
+                if (ENABLED_NAMESPACE_POOL.getAsBoolean()) {
+                    namespacePool().release(currentNamespace);
+                } else {
+                    doDeleteNamespace(currentNamespace);
+                }
             } catch (Exception e) {
                 fail("Project failed to be deleted. Caused by " + e.getMessage());
             } finally {
@@ -298,8 +349,12 @@ public final class KubectlClient {
      */
     private void deleteResources(String labelValue) {
         try {
-            String label = String.format("%s=%s", KubectlClient.LABEL_SCENARIO_ID, labelValue);
-            new Command(KUBECTL, "delete", "-n", currentNamespace, "all", "-l", label).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.deleteAllWithLabel(KubectlClient.LABEL_SCENARIO_ID, labelValue);
+            } else {
+                String label = String.format("%s=%s", KubectlClient.LABEL_SCENARIO_ID, labelValue);
+                new Command(KUBECTL, "delete", "-n", currentNamespace, "all", "-l", label).runAndWait();
+            }
         } catch (Exception e) {
             fail("Project failed to be deleted. Caused by " + e.getMessage());
         } finally {
@@ -510,8 +565,12 @@ public final class KubectlClient {
     private void doCreateSecretFromFile(String name, String filePath) {
         if (client.secrets().withName(name).get() == null) {
             try {
-                new Command(KUBECTL, "create", "secret", "generic", name, "--from-file=" + filePath,
-                        "-n", currentNamespace).runAndWait();
+                if (ENABLED_NATIVE_API.getAsBoolean()) {
+                    api.createSecretFromFile(name, Path.of(filePath));
+                } else {
+                    new Command(KUBECTL, "create", "secret", "generic", name, "--from-file=" + filePath,
+                            "-n", currentNamespace).runAndWait();
+                }
             } catch (Exception e) {
                 fail("Could not create secret. Caused by " + e.getMessage());
             }
@@ -521,8 +580,12 @@ public final class KubectlClient {
     private void doCreateSecretFromLiteral(String name, String key, String value) {
         if (client.secrets().withName(name).get() == null) {
             try {
-                new Command(KUBECTL, "create", "secret", "generic", name, "--from-literal=" + key + "=" + value,
-                        "-n", currentNamespace).runAndWait();
+                if (ENABLED_NATIVE_API.getAsBoolean()) {
+                    api.createSecretFromLiteral(name, key, value);
+                } else {
+                    new Command(KUBECTL, "create", "secret", "generic", name, "--from-literal=" + key + "=" + value,
+                            "-n", currentNamespace).runAndWait();
+                }
             } catch (Exception e) {
                 fail("Could not create secret from literal. Caused by " + e.getMessage());
             }
@@ -598,13 +661,44 @@ public final class KubectlClient {
         return key.startsWith(RESOURCE_PREFIX);
     }
 
-    private String createNamespace() {
+    /**
+     * The namespaces created in advance are labelled, so they can be found if the JVM is killed before deleting them.
+     * Otherwise, they are deleted by a shutdown hook registered along with the pool.
+     */
+    private static synchronized NamespacePool namespacePool() {
+        if (namespacePool == null) {
+            namespacePool = new NamespacePool("namespace", NAMESPACE_POOL_SIZE.getAsInteger(),
+                    () -> createNamespace(Map.of(LABEL_NAMESPACE_POOL, Boolean.TRUE.toString())),
+                    namespace -> {
+                        try {
+                            doDeleteNamespace(namespace);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    });
+            Runtime.getRuntime().addShutdownHook(new Thread(namespacePool::deleteAll, "namespace-pool-shutdown"));
+        }
+
+        return namespacePool;
+    }
+
+    private static void doDeleteNamespace(String namespace) throws IOException, InterruptedException {
+        if (ENABLED_NATIVE_API.getAsBoolean()) {
+            try (KubernetesClientImpl namespaceClient = createClient(new ConfigBuilder().withTrustCerts(true).build())) {
+                KubernetesApiOperations.deleteNamespace(namespaceClient, namespace);
+            }
+        } else {
+            new Command(KUBECTL, "delete", "namespace", namespace).runAndWait();
+        }
+    }
+
+    private static String createNamespace(Map<String, String> labels) {
         boolean namespaceCreated = false;
 
         String namespace = generateRandomNamespaceName();
         int index = 0;
         while (index < NAMESPACE_CREATION_RETRIES) {
-            if (doCreateNamespace(namespace)) {
+            if (doCreateNamespace(namespace, labels)) {
                 namespaceCreated = true;
                 break;
             }
@@ -620,10 +714,19 @@ public final class KubectlClient {
         return namespace;
     }
 
-    private boolean doCreateNamespace(String namespaceName) {
+    private static boolean doCreateNamespace(String namespaceName, Map<String, String> labels) {
         boolean created = false;
         try {
-            new Command(KUBECTL, "create", "namespace", namespaceName).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                // the namespace is created before the client of the scenario, which is bound to the namespace
+                try (KubernetesClientImpl namespaceClient = createClient(new ConfigBuilder().withTrustCerts(true).build())) {
+                    KubernetesApiOperations.createNamespace(namespaceClient, namespaceName, labels);
+                }
+            } else {
+                new Command(KUBECTL, "create", "namespace", namespaceName).runAndWait();
+                labelNamespace(namespaceName, labels);
+            }
+
             created = true;
         } catch (Exception e) {
             Log.warn("Namespace " + namespaceName + " failed to be created. Caused by: " + e.getMessage() + ". Trying again.");
@@ -632,12 +735,28 @@ public final class KubectlClient {
         return created;
     }
 
-    private String generateRandomNamespaceName() {
+    private static void labelNamespace(String namespaceName, Map<String, String> labels) {
+        for (Entry<String, String> label : labels.entrySet()) {
+            try {
+                new Command(KUBECTL, "label", "namespace", namespaceName, label.getKey() + "=" + label.getValue())
+                        .runAndWait();
+            } catch (Exception e) {
+                Log.warn("Namespace " + namespaceName + " failed to be labelled. Caused by: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String generateRandomNamespaceName() {
         return ThreadLocalRandom.current().ints(NAMESPACE_NAME_SIZE, 'a', 'z' + 1)
                 .collect(() -> new StringBuilder("ts-"), StringBuilder::appendCodePoint, StringBuilder::append)
                 .toString();
     }
 
+    /**
+     * The current namespace of the `kubectl` context is set by running `kubectl` also when
+     * `ts.global.kubernetes.native-api.enabled` is true: the API does not change the kubeconfig, and the commands that
+     * are still run using `kubectl`, like the ones run by the users when debugging a scenario, rely on it.
+     */
     private void setCurrentSessionNamespace(String namespaceName) {
         try {
             new Command(KUBECTL, "config", "set-context", "--current", "--namespace=" + namespaceName).runAndWait();
@@ -0,0 +1,42 @@
+package io.quarkus.test.bootstrap.inject;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+
+/**
+ * The operations that {@link KubectlClient} does by running `kubectl`, done through the Kubernetes API instead, when
+ * `ts.global.kubernetes.native-api.enabled` is true. This avoids forking a process (and loading the kubeconfig) per
+ * operation. The current namespace of the `kubectl` context is still set using `kubectl`, see {@link KubectlClient}.
+ */
+final class KubernetesApiOperations extends BaseKubernetesApiOperations<KubernetesClient> {
+
+    KubernetesApiOperations(KubernetesClient client, String namespace) {
+        super(client, namespace);
+    }
+
+    /**
+     * Same as `kubectl create namespace`, followed by `kubectl label namespace` when there are labels.
+     */
+    static void createNamespace(KubernetesClient client, String name, Map<String, String> labels) {
+        client.namespaces().resource(new NamespaceBuilder()
+                .withNewMetadata().withName(name).withLabels(labels).endMetadata()
+                .build()).create();
+    }
+
+    /**
+     * Same as `kubectl delete namespace`.
+     */
+    static void deleteNamespace(KubernetesClient client, String name) {
+        client.namespaces().withName(name).delete();
+    }
+
+    /**
+     * Same as `kubectl expose deployment --type=NodePort`: the service selects the pods of the deployment and has the
+     * deployment labels.
+     */
+    void exposeDeployment(String deploymentName, String serviceName, int port) {
+        exposeDeployment(deploymentName, serviceName, port, "NodePort", null);
+    }
+}
@@ -6,6 +6,7 @@ import static java.util.regex.Pattern.quote;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -88,6 +89,11 @@ public class KubernetesContainerManagedResource implements ManagedResource {
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     protected String getTemplate() {
         return getConfiguration()
                 .getOrDefault(Configuration.Property.KUBERNETES_DEPLOYMENT_TEMPLATE_PROPERTY,
@@ -4,6 +4,7 @@ import static io.restassured.RestAssured.given;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.http.HttpStatus;
 
@@ -13,6 +14,7 @@ import io.quarkus.test.bootstrap.inject.KubectlClient;
 import io.quarkus.test.logging.KubernetesLoggingHandler;
 import io.quarkus.test.logging.Log;
 import io.quarkus.test.logging.LoggingHandler;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.services.URILike;
 
 public abstract class KubernetesQuarkusApplicationManagedResource<T extends QuarkusApplicationManagedResourceBuilder>
@@ -41,14 +43,18 @@ public abstract class KubernetesQuarkusApplicationManagedResource<T extends Quar
             return;
         }
 
-        if (!init) {
-            doInit();
-            init = true;
-        } else {
-            doUpdate();
+        try (var phase = PhaseTimings.start(model.getContext(), "deploy.apply")) {
+            if (!init) {
+                doInit();
+                init = true;
+            } else {
+                doUpdate();
+            }
         }
 
-        client.scaleTo(model.getContext().getOwner(), 1);
+        try (var phase = PhaseTimings.start(model.getContext(), "deploy.scale-up")) {
+            client.scaleTo(model.getContext().getOwner(), 1);
+        }
 
         running = true;
 
@@ -92,6 +98,11 @@ public abstract class KubernetesQuarkusApplicationManagedResource<T extends Quar
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     @Override
     public void restart() {
         stop();
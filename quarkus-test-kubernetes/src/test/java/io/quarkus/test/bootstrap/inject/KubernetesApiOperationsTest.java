@@ -0,0 +1,85 @@
+package io.quarkus.test.bootstrap.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+
+@EnableKubernetesMockClient(crud = true)
+public class KubernetesApiOperationsTest {
+
+    private static final Map<String, String> SCENARIO = Map.of(KubectlClient.LABEL_SCENARIO_ID, "scenario");
+
+    KubernetesClient client;
+
+    private KubernetesApiOperations api;
+
+    @BeforeEach
+    public void setup() {
+        api = new KubernetesApiOperations(client, client.getNamespace());
+    }
+
+    @Test
+    public void testCreateSecrets(@TempDir Path folder) throws IOException {
+        Path file = Files.writeString(folder.resolve("keystore.p12"), "content");
+        api.createSecretFromFile("from-file", file);
+        api.createSecretFromLiteral("from-literal", "password", "secret");
+
+        assertEquals("content", decode(client.secrets().withName("from-file").get(), "keystore.p12"));
+        assertEquals("secret", decode(client.secrets().withName("from-literal").get(), "password"));
+    }
+
+    @Test
+    public void testExposeDeployment() {
+        client.apps().deployments().resource(new DeploymentBuilder()
+                .withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata()
+                .withNewSpec().withNewSelector().addToMatchLabels("app", "app").endSelector().endSpec()
+                .build()).create();
+
+        api.exposeDeployment("app", "app", 8080);
+
+        Service service = client.services().withName("app").get();
+        assertEquals("NodePort", service.getSpec().getType());
+        assertEquals(Map.of("app", "app"), service.getSpec().getSelector());
+        assertEquals(8080, service.getSpec().getPorts().get(0).getPort());
+        assertEquals(SCENARIO, service.getMetadata().getLabels());
+    }
+
+    @Test
+    public void testDeleteAllWithLabel() {
+        client.pods().resource(new PodBuilder().withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata()
+                .build()).create();
+        client.services().resource(new ServiceBuilder().withNewMetadata().withName("app").withLabels(SCENARIO)
+                .endMetadata().build()).create();
+        client.services().resource(new ServiceBuilder().withNewMetadata().withName("other").endMetadata()
+                .build()).create();
+
+        api.deleteAllWithLabel(KubectlClient.LABEL_SCENARIO_ID, "scenario");
+
+        assertNull(client.pods().withName("app").get());
+        assertNull(client.services().withName("app").get());
+        assertNotNull(client.services().withName("other").get());
+    }
+
+    private static String decode(Secret secret, String key) {
+        return new String(Base64.getDecoder().decode(secret.getData().get(key)), StandardCharsets.UTF_8);
+    }
+}
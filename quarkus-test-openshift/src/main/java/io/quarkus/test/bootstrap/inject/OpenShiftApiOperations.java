@@ -0,0 +1,101 @@
+package io.quarkus.test.bootstrap.inject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.ObjectReference;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.openshift.api.model.ProjectRequestBuilder;
+import io.fabric8.openshift.api.model.RouteBuilder;
+import io.fabric8.openshift.client.NamespacedOpenShiftClient;
+
+/**
+ * The operations that {@link OpenShiftClient} does by running `oc`, done through the OpenShift API instead, when
+ * `ts.global.openshift.native-api.enabled` is true. This avoids forking a process (and loading the kubeconfig) per
+ * operation.
+ */
+final class OpenShiftApiOperations extends BaseKubernetesApiOperations<NamespacedOpenShiftClient> {
+
+    OpenShiftApiOperations(NamespacedOpenShiftClient client, String project) {
+        super(client, project);
+    }
+
+    /**
+     * Same as `oc new-project`, but the current project of the `oc` session is not changed.
+     */
+    static void createProject(NamespacedOpenShiftClient client, String name) {
+        client.projectrequests().create(new ProjectRequestBuilder().withNewMetadata().withName(name).endMetadata().build());
+    }
+
+    /**
+     * Same as `oc expose svc`: the route has the given labels and targets the port of the service.
+     */
+    void exposeService(String serviceName, String routeName, int port, Map<String, String> labels) {
+        client.routes().inNamespace(namespace).resource(new RouteBuilder()
+                .withNewMetadata().withName(routeName).withLabels(labels).endMetadata()
+                .withNewSpec()
+                .withNewTo().withKind("Service").withName(serviceName).endTo()
+                .withNewPort().withTargetPort(new IntOrString(port)).endPort()
+                .endSpec()
+                .build()).create();
+    }
+
+    /**
+     * Same as `oc create route passthrough`.
+     */
+    void createTlsPassthroughRoute(String serviceName, String routeName, int port) {
+        client.routes().inNamespace(namespace).resource(new RouteBuilder()
+                .withNewMetadata().withName(routeName).endMetadata()
+                .withNewSpec()
+                .withNewTo().withKind("Service").withName(serviceName).endTo()
+                .withNewPort().withTargetPort(new IntOrString(port)).endPort()
+                .withNewTls().withTermination("passthrough").endTls()
+                .endSpec()
+                .build()).create();
+    }
+
+    /**
+     * Same as `oc expose deployment`: the service selects the pods of the deployment and has the given labels.
+     */
+    void exposeDeployment(String deploymentName, String serviceName, int port, Map<String, String> labels) {
+        exposeDeployment(deploymentName, serviceName, port, null, labels);
+    }
+
+    /**
+     * Same as `oc get events`, one line per event: last seen, type, reason, object and message.
+     */
+    String getEvents() {
+        return client.v1().events().inNamespace(namespace).list().getItems().stream()
+                .map(event -> String.join(" ",
+                        Objects.toString(event.getLastTimestamp(), ""),
+                        Objects.toString(event.getType(), ""),
+                        Objects.toString(event.getReason(), ""),
+                        describe(event.getInvolvedObject()),
+                        Objects.toString(event.getMessage(), "")))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    @Override
+    protected List<MixedOperation<? extends HasMetadata, ?, ?>> allResourceTypes() {
+        List<MixedOperation<? extends HasMetadata, ?, ?>> resourceTypes = super.allResourceTypes();
+        resourceTypes.addAll(List.of(
+                client.deploymentConfigs(),
+                client.buildConfigs(),
+                client.builds(),
+                client.imageStreams(),
+                client.routes()));
+        return resourceTypes;
+    }
+
+    private static String describe(ObjectReference object) {
+        if (object == null) {
+            return "";
+        }
+
+        return Objects.toString(object.getKind(), "").toLowerCase() + "/" + Objects.toString(object.getName(), "");
+    }
+}
@@ -1,6 +1,10 @@
 package io.quarkus.test.bootstrap.inject;
 
+import static io.quarkus.test.configuration.Configuration.Property.OPENSHIFT_CLUSTER_CACHE;
 import static io.quarkus.test.configuration.Configuration.Property.OPENSHIFT_EPHEMERAL_NAMESPACES;
+import static io.quarkus.test.configuration.Configuration.Property.OPENSHIFT_NATIVE_API;
+import static io.quarkus.test.configuration.Configuration.Property.OPENSHIFT_PROJECT_POOL;
+import static io.quarkus.test.configuration.Configuration.Property.OPENSHIFT_PROJECT_POOL_SIZE;
 import static io.quarkus.test.model.CustomVolume.VolumeType.CONFIG_MAP;
 import static io.quarkus.test.model.CustomVolume.VolumeType.SECRET;
 import static io.quarkus.test.openshift.utils.OpenShiftPropertiesUtils.getAnnotatedConfigMap;
@@ -28,10 +32,12 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -74,6 +80,7 @@ import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable;
 import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
@@ -102,6 +109,7 @@ import io.quarkus.test.services.quarkus.model.QuarkusProperties;
 import io.quarkus.test.utils.AwaitilityUtils;
 import io.quarkus.test.utils.Command;
 import io.quarkus.test.utils.FileUtils;
+import io.quarkus.test.utils.NamespacePool;
 import io.quarkus.test.utils.PropertiesUtils;
 import io.smallrye.config.common.utils.StringUtil;
 
@@ -110,8 +118,16 @@ public final class OpenShiftClient {
     public static final String LABEL_TO_WATCH_FOR_LOGS = "tsLogWatch";
     public static final String KNATIVE_SERVICE_LABEL = "serving.knative.dev/service";
     public static final String LABEL_SCENARIO_ID = "scenarioId";
+    public static final String LABEL_PROJECT_POOL = "tsNamespacePool";
     public static final PropertyLookup ENABLED_EPHEMERAL_NAMESPACES = new PropertyLookup(
             OPENSHIFT_EPHEMERAL_NAMESPACES.getName(), Boolean.TRUE.toString());
+    private static final PropertyLookup ENABLED_CLUSTER_CACHE = new PropertyLookup(OPENSHIFT_CLUSTER_CACHE.getName(),
+            Boolean.FALSE.toString());
+    private static final PropertyLookup ENABLED_PROJECT_POOL = new PropertyLookup(OPENSHIFT_PROJECT_POOL.getName(),
+            Boolean.FALSE.toString());
+    private static final PropertyLookup PROJECT_POOL_SIZE = new PropertyLookup(OPENSHIFT_PROJECT_POOL_SIZE.getName(), "1");
+    private static final PropertyLookup ENABLED_NATIVE_API = new PropertyLookup(OPENSHIFT_NATIVE_API.getName(),
+            Boolean.FALSE.toString());
     public static final String TLS_ROUTE_SUFFIX = "-tls";
     private static final String DOT = ".";
     private static final Logger LOG = Logger.getLogger(OpenShiftClient.class);
@@ -131,16 +147,25 @@ public final class OpenShiftClient {
 
     private static final String OC = "oc";
 
+    private static NamespacePool projectPool;
+
     private final String currentNamespace;
     private final OpenShiftClientImpl client;
     private final KnativeClient kn;
+    private final OpenShiftApiOperations api;
+    private final OpenShiftClusterCache cache;
     private final String scenarioId;
     private boolean isClientReady;
 
     private OpenShiftClient(String scenarioId) {
         this.scenarioId = scenarioId;
-        if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean()) {
-            currentNamespace = createProject();
+        if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean() && ENABLED_PROJECT_POOL.getAsBoolean()) {
+            currentNamespace = projectPool().take();
+            setCurrentSessionProject(currentNamespace);
+            OpenShiftConfig config = new OpenShiftConfigBuilder().withTrustCerts(true).withNamespace(currentNamespace).build();
+            client = createClient(config);
+        } else if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean()) {
+            currentNamespace = createProject(false);
             OpenShiftConfig config = new OpenShiftConfigBuilder().withTrustCerts(true).withNamespace(currentNamespace).build();
             client = createClient(config);
         } else {
@@ -150,6 +175,12 @@ public final class OpenShiftClient {
         }
         isClientReady = true;
         kn = client.adapt(KnativeClient.class);
+        api = new OpenShiftApiOperations(client, currentNamespace);
+        if (ENABLED_CLUSTER_CACHE.getAsBoolean()) {
+            cache = OpenShiftClusterCache.start(client, kn, currentNamespace).orElse(null);
+        } else {
+            cache = null;
+        }
     }
 
     private static OpenShiftClientImpl createClient(OpenShiftConfig config) {
@@ -194,7 +225,11 @@ public final class OpenShiftClient {
      */
     public void applyInProject(Path file, String project) {
         try {
-            new Command(OC, "apply", "-f", file.toAbsolutePath().toString(), "-n", project).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.apply(file, project);
+            } else {
+                new Command(OC, "apply", "-f", file.toAbsolutePath().toString(), "-n", project).runAndWait();
+            }
         } catch (Exception e) {
             fail("Failed to apply resource " + file.toAbsolutePath() + " . Caused by " + e.getMessage());
         }
@@ -217,7 +252,11 @@ public final class OpenShiftClient {
      */
     public void deleteInProject(Path file, String project) {
         try {
-            new Command(OC, "delete", "-f", file.toAbsolutePath().toString(), "-n", project).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.delete(file, project);
+            } else {
+                new Command(OC, "delete", "-f", file.toAbsolutePath().toString(), "-n", project).runAndWait();
+            }
         } catch (Exception e) {
             fail("Failed to apply resource " + file.toAbsolutePath() + " . Caused by " + e.getMessage());
         }
@@ -330,8 +369,12 @@ public final class OpenShiftClient {
         }
 
         try {
-            new Command(OC, "expose", "svc/" + serviceName, "--port=" + port, "-n", currentNamespace,
-                    "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.exposeService(serviceName, serviceName, port, Map.of(LABEL_SCENARIO_ID, getScenarioId()));
+            } else {
+                new Command(OC, "expose", "svc/" + serviceName, "--port=" + port, "-n", currentNamespace,
+                        "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            }
         } catch (Exception e) {
             fail("Service failed to be exposed. Caused by " + e.getMessage());
         }
@@ -352,11 +395,15 @@ public final class OpenShiftClient {
         }
 
         try {
-            new Command(OC, "expose", "svc/" + serviceName,
-                    "--port=" + port,
-                    "--name=" + routeName,
-                    "-n", currentNamespace,
-                    "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.exposeService(serviceName, routeName, port, Map.of(LABEL_SCENARIO_ID, getScenarioId()));
+            } else {
+                new Command(OC, "expose", "svc/" + serviceName,
+                        "--port=" + port,
+                        "--name=" + routeName,
+                        "-n", currentNamespace,
+                        "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            }
         } catch (Exception e) {
             fail("Service failed to be exposed. Caused by " + e.getMessage());
         }
@@ -407,8 +454,12 @@ public final class OpenShiftClient {
      */
     public void createTlsPassthroughRoute(String serviceName, String routeName, int port) {
         try {
-            new Command(OC, "create", "route", "passthrough",
-                    routeName, "--service=" + serviceName, "--port=" + port).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.createTlsPassthroughRoute(serviceName, routeName, port);
+            } else {
+                new Command(OC, "create", "route", "passthrough",
+                        routeName, "--service=" + serviceName, "--port=" + port).runAndWait();
+            }
         } catch (Exception e) {
             fail("Failed to create TLS passthrought route. Caused by " + e.getMessage());
         }
@@ -431,12 +482,16 @@ public final class OpenShiftClient {
         }
 
         try {
-            new Command(OC, "expose", "deployment/" + appName,
-                    "--port=" + port,
-                    "--target-port=" + port,
-                    "--name=" + serviceName,
-                    "-n", currentNamespace,
-                    "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.exposeDeployment(appName, serviceName, port, Map.of(LABEL_SCENARIO_ID, getScenarioId()));
+            } else {
+                new Command(OC, "expose", "deployment/" + appName,
+                        "--port=" + port,
+                        "--target-port=" + port,
+                        "--name=" + serviceName,
+                        "-n", currentNamespace,
+                        "-l" + LABEL_SCENARIO_ID + "=" + getScenarioId()).runAndWait();
+            }
         } catch (Exception e) {
             fail("Service was not created. Caused by " + e.getMessage());
         }
@@ -454,11 +509,15 @@ public final class OpenShiftClient {
         }
 
         try {
-            new Command(OC, "scale",
-                    "deployment/" + service.getName(),
-                    "--replicas=" + replicas,
-                    "-n", currentNamespace)
-                    .runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.scale(service.getName(), replicas);
+            } else {
+                new Command(OC, "scale",
+                        "deployment/" + service.getName(),
+                        "--replicas=" + replicas,
+                        "-n", currentNamespace)
+                        .runAndWait();
+            }
         } catch (Exception e) {
             fail("Service failed to be scaled. Caused by " + e.getMessage());
         }
@@ -509,7 +568,6 @@ public final class OpenShiftClient {
      */
     public List<Pod> podsInService(Service service) {
         String serviceName = service.getName();
-
         if (isServerlessService(serviceName)) {
             return client.pods()
                     .withLabel(KNATIVE_SERVICE_LABEL, service.getName())
@@ -561,6 +619,32 @@ public final class OpenShiftClient {
         return logs;
     }
 
+    /**
+     * @return the running pods of the service. As it's polled by the logging handlers, the pods are read from the
+     *         cluster cache when `ts.global.openshift.cluster-cache.enabled` is true, so they might be slightly stale.
+     */
+    public List<Pod> runningPodsInService(Service service) {
+        List<Pod> pods;
+        if (cache == null) {
+            pods = podsInService(service);
+        } else if (cache.isKnativeService(service.getName())) {
+            pods = cache.podsInKnativeService(service.getName());
+        } else {
+            pods = cache.podsInService(service.getName());
+        }
+
+        return pods.stream().filter(this::isPodRunning).toList();
+    }
+
+    /**
+     * Follows the log of the container, writing the new output as it arrives.
+     *
+     * @param since the time from which the log is followed, or null to follow it from the beginning.
+     */
+    public LogWatch watchLog(String podName, String containerName, Instant since, OutputStream output) {
+        return BaseKubernetesApiOperations.watchLog(client, podName, containerName, since, output);
+    }
+
     /**
      * Resolve the url by the service.
      *
@@ -742,6 +826,15 @@ public final class OpenShiftClient {
      * @return status of the namespace.
      */
     public String getEvents() {
+        if (ENABLED_NATIVE_API.getAsBoolean()) {
+            try {
+                return api.getEvents();
+            } catch (Exception ex) {
+                Log.warn("Failed to get project events", ex);
+                return StringUtils.EMPTY;
+            }
+        }
+
         List<String> output = new ArrayList<>();
         try {
             new Command(OC, "get", "events", "-n", currentNamespace).outputToLines(output).runAndWait();
@@ -772,61 +865,18 @@ public final class OpenShiftClient {
     public void deleteProject() {
         if (ENABLED_EPHEMERAL_NAMESPACES.getAsBoolean()) {
             try {
-                var projectResource = client.projects().withName(currentNamespace);
-                var project = projectResource.get();
-                if (project == null) {
-                    LOG.infof("Skipping delete operation on project '%s' as project does not exists", currentNamespace);
-                    return;
-                }
-
-                if (project.isMarkedForDeletion()) {
-                    // seems like some other process already tries to delete project
-                    LOG.infof("Skipping delete operation on project '%s' as project is already marked "
-                            + "for deletion", currentNamespace);
-                    return;
-                }
-
-                LOG.infof("Deleting project '%s'", currentNamespace);
-                if (projectResource.delete().stream().allMatch(Objects::isNull)) {
-                    LOG.infof("Project '%s' deleted", currentNamespace);
-                    return;
-                }
-
-                // something went wrong or the client behavior changed, and it doesn't return null for deleted project
-                project = projectResource.update();
-                if (project == null) {
-                    // project has been deleted after all
-                    LOG.warnf("Deleted project '%s', but behavior of 'io.fabric8.kubernetes.client.dsl."
-                            + "Deletable.delete' has changed, we need to refactor this operation", currentNamespace);
-                    return;
-                }
-
-                if (!project.isMarkedForDeletion()) {
-                    fail("Illegal state - project '" + currentNamespace + "' should be marked for deletion, "
-                            + "please delete project manually");
-                }
-
-                var finalizers = project.getFinalizers();
-                if (finalizers != null && !finalizers.isEmpty()) {
-                    LOG.infof("Attempting to delete finalizers '%s' of project '%s' as the project wasn't cleaned"
-                            + " up within default timeout", Arrays.toString(finalizers.toArray()), currentNamespace);
-                    finalizers.forEach(project::removeFinalizer);
-                    projectResource.patch(project);
-
-                    // let's wait and see
-                    AwaitilityUtils.until(projectResource::get, Matchers.nullValue());
+                if (ENABLED_PROJECT_POOL.getAsBoolean()) {
+                    projectPool().release(currentNamespace);
+                } else {
+                    doDeleteProject(client, currentNamespace);
                 }
-
-                fail("Failed to delete project within default timeout, project is marked for deletion, but we might "
-                        + "need too raise waiting period");
             } catch (AssertionFailedError e) {
                 fail("Project failed to be deleted. Caused by " + e.getMessage());
             } catch (Exception e) {
                 LOG.errorf("Failed to delete project %s", currentNamespace, e);
                 fail("Failed to delete OpenShit project");
             } finally {
-                client.close();
-                isClientReady = false;
+                closeClient();
             }
         } else {
             deleteResources(getScenarioId());
@@ -877,6 +927,21 @@ public final class OpenShiftClient {
         return client.pods().withLabel(LABEL_TO_WATCH_FOR_LOGS, serviceName).resources().anyMatch(Resource::isReady);
     }
 
+    /**
+     * @return true when the cluster cache is enabled and shows that the service is not ready yet: none of its pods is
+     *         ready, or the Knative service is not ready. The checks that are polled, like requesting the route, can be
+     *         skipped then.
+     */
+    public boolean isNotReadyInCache(String serviceName) {
+        if (cache == null) {
+            return false;
+        } else if (cache.isKnativeService(serviceName)) {
+            return !cache.isKnativeServiceReady(serviceName);
+        }
+
+        return !cache.isAnyPodReady(serviceName);
+    }
+
     public void createConfigMap(String configMapName, Path fileSystemPath) {
         var configMapResource = client.configMaps().withName(configMapName);
         if (configMapResource.get() == null) {
@@ -919,13 +984,16 @@ public final class OpenShiftClient {
      */
     private void deleteResources(String labelValue) {
         try {
-            String label = String.format("%s=%s", OpenShiftClient.LABEL_SCENARIO_ID, labelValue);
-            new Command(OC, "delete", "-n", currentNamespace, "all", "-l", label).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                api.deleteAllWithLabel(OpenShiftClient.LABEL_SCENARIO_ID, labelValue);
+            } else {
+                String label = String.format("%s=%s", OpenShiftClient.LABEL_SCENARIO_ID, labelValue);
+                new Command(OC, "delete", "-n", currentNamespace, "all", "-l", label).runAndWait();
+            }
         } catch (Exception e) {
             fail("Project failed to be deleted. Caused by " + e.getMessage());
         } finally {
-            client.close();
-            isClientReady = false;
+            closeClient();
         }
     }
 
@@ -1352,17 +1420,99 @@ public final class OpenShiftClient {
         return !client.imageStreams().withName(is.getMetadata().getName()).get().getStatus().getTags().isEmpty();
     }
 
+    private void closeClient() {
+        if (cache != null) {
+            cache.close();
+        }
+
+        client.close();
+        isClientReady = false;
+    }
+
     private boolean isPodRunning(Pod pod) {
         return pod.getStatus().getPhase().equals("Running");
     }
 
-    private String createProject() {
+    /**
+     * The projects created in advance are labelled, so they can be found if the JVM is killed before deleting them.
+     * Otherwise, they are deleted by a shutdown hook registered along with the pool.
+     */
+    private static synchronized NamespacePool projectPool() {
+        if (projectPool == null) {
+            projectPool = new NamespacePool("project", PROJECT_POOL_SIZE.getAsInteger(), () -> createProject(true),
+                    project -> {
+                        try (OpenShiftClientImpl projectClient = createClient(
+                                new OpenShiftConfigBuilder().withTrustCerts(true).build())) {
+                            doDeleteProject(projectClient, project);
+                        }
+                    });
+            Runtime.getRuntime().addShutdownHook(new Thread(projectPool::deleteAll, "project-pool-shutdown"));
+        }
+
+        return projectPool;
+    }
+
+    private static void doDeleteProject(io.fabric8.openshift.client.OpenShiftClient projectClient, String projectName) {
+        var projectResource = projectClient.projects().withName(projectName);
+        var project = projectResource.get();
+        if (project == null) {
+            LOG.infof("Skipping delete operation on project '%s' as project does not exists", projectName);
+            return;
+        }
+
+        if (project.isMarkedForDeletion()) {
+            // seems like some other process already tries to delete project
+            LOG.infof("Skipping delete operation on project '%s' as project is already marked "
+                    + "for deletion", projectName);
+            return;
+        }
+
+        LOG.infof("Deleting project '%s'", projectName);
+        if (projectResource.delete().stream().allMatch(Objects::isNull)) {
+            LOG.infof("Project '%s' deleted", projectName);
+            return;
+        }
+
+        // something went wrong or the client behavior changed, and it doesn't return null for deleted project
+        project = projectResource.update();
+        if (project == null) {
+            // project has been deleted after all
+            LOG.warnf("Deleted project '%s', but behavior of 'io.fabric8.kubernetes.client.dsl."
+                    + "Deletable.delete' has changed, we need to refactor this operation", projectName);
+            return;
+        }
+
+        if (!project.isMarkedForDeletion()) {
+            fail("Illegal state - project '" + projectName + "' should be marked for deletion, "
+                    + "please delete project manually");
+        }
+
+        var finalizers = project.getFinalizers();
+        if (finalizers != null && !finalizers.isEmpty()) {
+            LOG.infof("Attempting to delete finalizers '%s' of project '%s' as the project wasn't cleaned"
+                    + " up within default timeout", Arrays.toString(finalizers.toArray()), projectName);
+            finalizers.forEach(project::removeFinalizer);
+            projectResource.patch(project);
+
+            // let's wait and see
+            AwaitilityUtils.until(projectResource::get, Matchers.nullValue());
+        }
+
+        fail("Failed to delete project within default timeout, project is marked for deletion, but we might "
+                + "need too raise waiting period");
+    }
+
+    /**
+     * @param pooled whether the project is created in advance, then it's labelled and not set as the current project
+     *        of the `oc` session.
+     */
+    private static String createProject(boolean pooled) {
         boolean projectCreated = false;
 
         String namespace = generateRandomProjectName();
         int index = 0;
         while (index < PROJECT_CREATION_RETRIES) {
-            if (doCreateProject(namespace)) {
+            if (doCreateProject(namespace, pooled)) {
                 projectCreated = true;
                 break;
             }
@@ -1398,8 +1548,12 @@ public final class OpenShiftClient {
     public void doCreateSecretFromFile(String name, String filePath) {
         if (client.secrets().withName(name).get() == null) {
             try {
-                new Command(OC, "create", "secret", "generic", name, "--from-file=" + filePath,
-                        "-n", currentNamespace).runAndWait();
+                if (ENABLED_NATIVE_API.getAsBoolean()) {
+                    api.createSecretFromFile(name, Path.of(filePath));
+                } else {
+                    new Command(OC, "create", "secret", "generic", name, "--from-file=" + filePath,
+                            "-n", currentNamespace).runAndWait();
+                }
             } catch (Exception e) {
                 fail("Could not create secret. Caused by " + e.getMessage());
             }
@@ -1409,26 +1563,68 @@ public final class OpenShiftClient {
     public void doCreateSecretFromLiteral(String name, String key, String value) {
         if (client.secrets().withName(name).get() == null) {
             try {
-                new Command(OC, "create", "secret", "generic", name, "--from-literal=" + key + "=" + value,
-                        "-n", currentNamespace).runAndWait();
+                if (ENABLED_NATIVE_API.getAsBoolean()) {
+                    api.createSecretFromLiteral(name, key, value);
+                } else {
+                    new Command(OC, "create", "secret", "generic", name, "--from-literal=" + key + "=" + value,
+                            "-n", currentNamespace).runAndWait();
+                }
             } catch (Exception e) {
                 fail("Could not create secret from literal. Caused by " + e.getMessage());
             }
         }
     }
 
-    private boolean doCreateProject(String projectName) {
+    private static boolean doCreateProject(String projectName, boolean pooled) {
         boolean created = false;
         try {
-            new Command(OC, "new-project", projectName).runAndWait();
+            if (ENABLED_NATIVE_API.getAsBoolean()) {
+                // the project is created before the client of the scenario, which is bound to the project
+                OpenShiftConfig config = new OpenShiftConfigBuilder().withTrustCerts(true).build();
+                try (OpenShiftClientImpl projectClient = createClient(config)) {
+                    OpenShiftApiOperations.createProject(projectClient, projectName);
+                }
+            } else if (pooled) {
+                // the current project of the session is used by the running scenario
+                new Command(OC, "new-project", projectName, "--skip-config-write").runAndWait();
+            } else {
+                new Command(OC, "new-project", projectName).runAndWait();
+            }
+
             created = true;
         } catch (Exception e) {
             Log.warn("Project " + projectName + " failed to be created. Caused by: " + e.getMessage() + ". Trying again.");
         }
 
+        if (created && pooled) {
+            labelProject(projectName);
+        } else if (created && ENABLED_NATIVE_API.getAsBoolean()) {
+            setCurrentSessionProject(projectName);
+        }
+
         return created;
     }
 
+    private static void labelProject(String projectName) {
+        try {
+            new Command(OC, "label", "namespace", projectName, LABEL_PROJECT_POOL + "=" + Boolean.TRUE).runAndWait();
+        } catch (Exception e) {
+            Log.warn("Project " + projectName + " failed to be labelled. Caused by: " + e.getMessage());
+        }
+    }
+
+    /**
+     * The commands that are still run using `oc` rely on the current project, as set by `oc new-project`.
+     */
+    private static void setCurrentSessionProject(String projectName) {
+        try {
+            new Command(OC, "project", projectName).runAndWait();
+        } catch (Exception e) {
+            Log.warn("Project " + projectName + " failed to be set as current session project. Caused by: "
+                    + e.getMessage());
+        }
+    }
+
     private List<HasMetadata> loadYaml(String template) {
         NamespaceListVisitFromServerGetDeleteRecreateWaitApplicable<HasMetadata> load = client
                 .load(new ByteArrayInputStream(template.getBytes()));
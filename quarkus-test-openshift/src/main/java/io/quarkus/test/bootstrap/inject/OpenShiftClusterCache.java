@@ -0,0 +1,131 @@
+package io.quarkus.test.bootstrap.inject;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.knative.client.KnativeClient;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.readiness.Readiness;
+import io.fabric8.openshift.client.NamespacedOpenShiftClient;
+import io.quarkus.test.logging.Log;
+
+/**
+ * Caches the pods and Knative services of the scenario project using informers, so the readiness checks that are
+ * polled and the logging ticks don't list them from the API server on every call: a single watch stream per kind keeps
+ * the cache up to date. The pods are indexed by the `tsLogWatch` and Knative service labels.
+ *
+ * The cache might not reflect the changes made right before, so it's only meant for the checks that are polled, the
+ * public methods of {@link OpenShiftClient} query the API.
+ */
+final class OpenShiftClusterCache implements Closeable {
+
+    private static final Duration SYNC_TIMEOUT = Duration.ofMinutes(1);
+    private static final String BY_SERVICE = "byService";
+    private static final String BY_KNATIVE_SERVICE = "byKnativeService";
+    private static final String READY_CONDITION = "Ready";
+    private static final String CONDITION_TRUE = "True";
+
+    private final String namespace;
+    private final List<SharedIndexInformer<?>> informers = new ArrayList<>();
+    private final SharedIndexInformer<Pod> pods;
+    private SharedIndexInformer<io.fabric8.knative.serving.v1.Service> knativeServices;
+
+    private OpenShiftClusterCache(NamespacedOpenShiftClient client, String namespace) {
+        this.namespace = namespace;
+        this.pods = client.pods().inNamespace(namespace).runnableInformer(0);
+        this.pods.addIndexers(Map.of(
+                BY_SERVICE, pod -> labelValue(pod, OpenShiftClient.LABEL_TO_WATCH_FOR_LOGS),
+                BY_KNATIVE_SERVICE, pod -> labelValue(pod, OpenShiftClient.KNATIVE_SERVICE_LABEL)));
+        informers.add(pods);
+    }
+
+    /**
+     * @return the synced cache, or empty when the resources can't be watched, so the API is queried instead.
+     */
+    static Optional<OpenShiftClusterCache> start(NamespacedOpenShiftClient client, KnativeClient kn, String namespace) {
+        OpenShiftClusterCache cache = new OpenShiftClusterCache(client, namespace);
+        try {
+            awaitSync(cache.pods.start());
+        } catch (Exception e) {
+            Log.warn("Cluster cache of project %s could not be started, the API will be queried instead. Caused by: %s",
+                    namespace, e.getMessage());
+            cache.close();
+            return Optional.empty();
+        }
+
+        SharedIndexInformer<io.fabric8.knative.serving.v1.Service> knativeServices = kn.services().inNamespace(namespace)
+                .runnableInformer(0);
+        try {
+            awaitSync(knativeServices.start());
+            cache.knativeServices = knativeServices;
+            cache.informers.add(knativeServices);
+        } catch (Exception e) {
+            // Knative might not be installed, then there are no serverless services
+            Log.debug("Knative services of project %s can't be watched. Caused by: %s", namespace, e.getMessage());
+            knativeServices.stop();
+        }
+
+        return Optional.of(cache);
+    }
+
+    List<Pod> podsInService(String serviceName) {
+        return pods.getIndexer().byIndex(BY_SERVICE, serviceName);
+    }
+
+    List<Pod> podsInKnativeService(String serviceName) {
+        return pods.getIndexer().byIndex(BY_KNATIVE_SERVICE, serviceName);
+    }
+
+    boolean isAnyPodReady(String serviceName) {
+        return podsInService(serviceName).stream().anyMatch(Readiness.getInstance()::isReady);
+    }
+
+    boolean isKnativeService(String name) {
+        return knativeService(name).isPresent();
+    }
+
+    boolean isKnativeServiceReady(String name) {
+        return knativeService(name)
+                .map(service -> service.getStatus())
+                .map(status -> status.getConditions())
+                .stream()
+                .flatMap(List::stream)
+                .anyMatch(condition -> READY_CONDITION.equals(condition.getType())
+                        && CONDITION_TRUE.equals(condition.getStatus()));
+    }
+
+    @Override
+    public void close() {
+        informers.forEach(SharedIndexInformer::stop);
+    }
+
+    private Optional<io.fabric8.knative.serving.v1.Service> knativeService(String name) {
+        if (knativeServices == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(knativeServices.getStore().getByKey(Cache.namespaceKeyFunc(namespace, name)));
+    }
+
+    private static void awaitSync(CompletionStage<Void> started) throws Exception {
+        started.toCompletableFuture().get(SYNC_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static List<String> labelValue(HasMetadata resource, String label) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        if (labels == null || !labels.containsKey(label)) {
+            return List.of();
+        }
+
+        return List.of(labels.get(label));
+    }
+}
@@ -1,18 +1,21 @@
 package io.quarkus.test.logging;
 
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.quarkus.test.bootstrap.OpenShiftExtensionBootstrap;
 import io.quarkus.test.bootstrap.Service;
 import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.bootstrap.inject.OpenShiftClient;
 
-public class OpenShiftLoggingHandler extends ServiceLoggingHandler {
+public class OpenShiftLoggingHandler extends PodLoggingHandler {
 
     private final OpenShiftClient client;
     private final Service service;
-    private Map<String, String> oldLogs;
 
     public OpenShiftLoggingHandler(ServiceContext context) {
         super(context.getOwner());
@@ -22,29 +25,17 @@ public class OpenShiftLoggingHandler extends ServiceLoggingHandler {
     }
 
     @Override
-    protected synchronized void handle() {
-        Map<String, String> newLogs = client.logs(service);
-        for (Entry<String, String> entry : newLogs.entrySet()) {
-            onMapDifference(entry);
-        }
-
-        oldLogs = newLogs;
+    protected Map<String, String> downloadLogs() {
+        return client.logs(service);
     }
 
-    private void onMapDifference(Entry<String, String> entry) {
-        String newPodLogs = formatPodLogs(entry.getKey(), entry.getValue());
-
-        if (oldLogs != null && oldLogs.containsKey(entry.getKey())) {
-            String oldPodLogs = formatPodLogs(entry.getKey(), oldLogs.get(entry.getKey()));
-
-            onStringDifference(newPodLogs, oldPodLogs);
-        } else {
-            onLines(newPodLogs);
-        }
+    @Override
+    protected List<Pod> runningPodsInService() {
+        return client.runningPodsInService(service);
     }
 
-    private String formatPodLogs(String podName, String log) {
-        return String.format("[%s] %s", podName, log);
+    @Override
+    protected LogWatch watchLog(String podName, String containerName, Instant since, OutputStream output) {
+        return client.watchLog(podName, containerName, since, output);
     }
-
 }
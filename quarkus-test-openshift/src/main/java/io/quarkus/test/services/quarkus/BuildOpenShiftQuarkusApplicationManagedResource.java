@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.quarkus.test.configuration.PropertyLookup;
 import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.utils.Command;
 import io.quarkus.test.utils.PropertiesUtils;
 
@@ -31,6 +32,7 @@ public class BuildOpenShiftQuarkusApplicationManagedResource
     private static final String QUARKUS_OPENSHIFT_TEMPLATE = "/quarkus-build-openshift-template.yml";
     private static final String IMAGE_TAG_SEPARATOR = ":";
     private static final String QUARKUS_OPENSHIFT_OPTS_PROPERTY = "quarkus.openshift.env.vars.quarkus-opts";
+    private static final String IMAGE_BUILDER_STREAM = "image-builder";
 
     private String builtImageName = "no-image-yet";
 
@@ -46,8 +48,11 @@ public class BuildOpenShiftQuarkusApplicationManagedResource
     @Override
     protected void doInit() {
         super.doInit();
-        startBuild();
-        this.builtImageName = getImage(model.getContext().getName());
+        this.builtImageName = OpenShiftBuildCache.of(model.getContext(), client)
+                .map(cache -> cache.imageFor(model.getArtifact(), isNativeTest(), getS2iImage(),
+                        IMAGE_BUILDER_STREAM + IMAGE_TAG_SEPARATOR + getS2iImageVersion(getS2iImage()),
+                        this::buildImage))
+                .orElseGet(this::buildImage);
         patchDeployment(model.getContext().getName(), this.builtImageName);
         exposeServices();
     }
@@ -116,6 +121,11 @@ public class BuildOpenShiftQuarkusApplicationManagedResource
                 .replaceAll(quote("${IMAGE_NAME}"), this.builtImageName);
     }
 
+    private String buildImage() {
+        startBuild();
+        return getImage(model.getContext().getName());
+    }
+
     private void exposeServices() {
         client.expose(model.getContext().getOwner(), HTTP_PORT_DEFAULT);
         client.expose(model.getContext().getOwner().getName() + "-management", model.getManagementPort());
@@ -127,7 +137,7 @@ public class BuildOpenShiftQuarkusApplicationManagedResource
             fromArg = "--from-file=" + model.getArtifact().toAbsolutePath();
         }
 
-        try {
+        try (var phase = PhaseTimings.start(model.getContext(), "build.openshift")) {
             new Command("oc", "start-build", model.getContext().getName(), fromArg, "--follow").runAndWait();
         } catch (Exception e) {
             fail("Failed when starting build. Caused by " + e.getMessage());
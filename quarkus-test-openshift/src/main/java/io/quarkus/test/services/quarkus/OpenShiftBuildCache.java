@@ -0,0 +1,303 @@
+package io.quarkus.test.services.quarkus;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.fabric8.kubernetes.api.model.rbac.RoleBindingBuilder;
+import io.fabric8.kubernetes.api.model.rbac.Subject;
+import io.fabric8.kubernetes.api.model.rbac.SubjectBuilder;
+import io.fabric8.kubernetes.client.dsl.NonDeletingOperation;
+import io.fabric8.kubernetes.client.dsl.base.PatchContext;
+import io.fabric8.kubernetes.client.dsl.base.PatchType;
+import io.fabric8.openshift.api.model.BuildConfig;
+import io.fabric8.openshift.api.model.BuildConfigBuilder;
+import io.fabric8.openshift.api.model.ImageLabel;
+import io.fabric8.openshift.api.model.ImageStream;
+import io.fabric8.openshift.api.model.ImageStreamBuilder;
+import io.fabric8.openshift.api.model.ImageStreamTag;
+import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.bootstrap.inject.OpenShiftClient;
+import io.quarkus.test.configuration.Configuration;
+import io.quarkus.test.logging.Log;
+import io.quarkus.test.metrics.PhaseTimings;
+import io.quarkus.test.utils.Command;
+import io.quarkus.test.utils.FileUtils;
+
+/**
+ * Reuses the images built from the same artifact when `ts.<service>.openshift.build-cache.enabled` is true. The images
+ * are tagged in the `ts-build-cache` image stream by the SHA-256 of the artifact content and the builder image, and
+ * annotated (or labelled, when built by this class) with it, so the build is skipped when the tag already exists.
+ *
+ * The image stream is in the project set by `ts.<service>.openshift.build-cache.project`. By default, it's the scenario
+ * project, so the images are only reused while the project lives (for example, when the service is rebuilt with the
+ * same artifact or when ephemeral namespaces are disabled). Using a project that outlives the scenarios reuses the
+ * images across scenarios: the scenario projects are granted to pull from (and build into) it.
+ *
+ * When `ts.<service>.openshift.build-cache.lib-layer.enabled` is true, the fast-jar of JVM applications is built in two
+ * chained Docker builds instead: one that only contains the `lib` folder, which is reused while the dependencies don't
+ * change, and one on top of it with the rest of the application, so only the application classes are uploaded.
+ */
+final class OpenShiftBuildCache {
+
+    static final String IMAGE_STREAM = "ts-build-cache";
+    static final String DIGEST_ANNOTATION = "ts.quarkus.io/artifact-digest";
+
+    private static final String LIB_FOLDER = "lib";
+    private static final String LIB_TAG_PREFIX = "lib-";
+    private static final String DOCKERFILE = "FROM builder\nCOPY . /deployments/\n";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String RBAC_API_GROUP = "rbac.authorization.k8s.io";
+
+    private final ServiceContext context;
+    private final OpenShiftClient client;
+    private final io.fabric8.openshift.client.OpenShiftClient fabric8;
+    private final String project;
+    private final boolean libLayer;
+
+    OpenShiftBuildCache(ServiceContext context, OpenShiftClient client, String project, boolean libLayer) {
+        this.context = context;
+        this.client = client;
+        this.fabric8 = client.getFabric8Client();
+        this.project = project;
+        this.libLayer = libLayer;
+    }
+
+    /**
+     * @return the cache of the service, or empty when it's not enabled.
+     */
+    static Optional<OpenShiftBuildCache> of(ServiceContext context, OpenShiftClient client) {
+        Configuration configuration = context.getOwner().getConfiguration();
+        if (!configuration.isTrue(Configuration.Property.OPENSHIFT_BUILD_CACHE)) {
+            return Optional.empty();
+        }
+
+        String project = configuration.getOrDefault(Configuration.Property.OPENSHIFT_BUILD_CACHE_PROJECT, client.project());
+        return Optional.of(new OpenShiftBuildCache(context, client, project,
+                configuration.isTrue(Configuration.Property.OPENSHIFT_BUILD_CACHE_LIB_LAYER)));
+    }
+
+    /**
+     * @param artifact the native executable or the runner jar, the whole folder of the runner jar is built.
+     * @param nativeMode whether only the native executable is built.
+     * @param builderImage the builder image, it's part of the digest because it's part of the built image.
+     * @param builderImageStreamTag the tag of the builder image in the scenario project.
+     * @param build runs the S2I build of the artifact and returns the built image.
+     * @return the image built from the artifact, either reused or built and then cached.
+     */
+    String imageFor(Path artifact, boolean nativeMode, String builderImage, String builderImageStreamTag,
+            Supplier<String> build) {
+        Path folder = artifact.toAbsolutePath().getParent();
+        String digest = nativeMode
+                ? digest(builderImage, List.of(artifact.toAbsolutePath()), folder)
+                : digest(builderImage, folder);
+        if (!project.equals(client.project())) {
+            // also when the image is reused, as the scenario project must pull it
+            grantAccess();
+        }
+
+        Optional<String> cached = cachedImage(digest);
+        if (cached.isPresent()) {
+            Log.info(context.getOwner(), "Reusing image %s built from the same artifact", cached.get());
+            return cached.get();
+        }
+
+        ensureImageStream();
+        if (libLayer && !nativeMode && Files.isDirectory(folder.resolve(LIB_FOLDER))) {
+            return buildInLayers(folder, builderImage, builderImageStreamTag, digest);
+        }
+
+        String image = build.get();
+        store(image, digest);
+        return image;
+    }
+
+    private String buildInLayers(Path folder, String builderImage, String builderImageStreamTag, String digest) {
+        Path lib = folder.resolve(LIB_FOLDER);
+        String libTag = LIB_TAG_PREFIX + digest(builderImage, lib);
+        Path buildFolder = context.getServiceFolder().resolve(IMAGE_STREAM);
+        if (cachedImage(libTag).isEmpty()) {
+            FileUtils.recreateDirectory(buildFolder);
+            FileUtils.copyDirectoryTo(lib, buildFolder.resolve(LIB_FOLDER));
+            dockerBuild(context.getName() + "-" + LIB_FOLDER, client.project(), builderImageStreamTag, buildFolder, libTag);
+        } else {
+            Log.info(context.getOwner(), "Reusing the %s layer %s", LIB_FOLDER, libTag);
+        }
+
+        FileUtils.recreateDirectory(buildFolder);
+        try (Stream<Path> children = Files.list(folder)) {
+            for (Path child : children.filter(path -> !path.equals(lib)).toList()) {
+                if (Files.isDirectory(child)) {
+                    FileUtils.copyDirectoryTo(child, buildFolder.resolve(child.getFileName().toString()));
+                } else {
+                    FileUtils.copyFileTo(child.toFile(), buildFolder);
+                }
+            }
+        } catch (IOException e) {
+            fail("Failed to prepare the application layer. Caused by " + e.getMessage());
+        }
+
+        dockerBuild(context.getName() + "-app", project, IMAGE_STREAM + ":" + libTag, buildFolder, digest);
+        return cachedImage(digest).orElseThrow(() -> new IllegalStateException("Image " + digest + " was not built"));
+    }
+
+    private void dockerBuild(String name, String fromProject, String fromTag, Path folder, String tag) {
+        BuildConfig buildConfig = new BuildConfigBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withLabels(Map.of(OpenShiftClient.LABEL_SCENARIO_ID, client.getScenarioId()))
+                .endMetadata()
+                .withNewSpec()
+                .withNewSource().withNewBinary().endBinary().withDockerfile(DOCKERFILE).endSource()
+                .withNewStrategy()
+                .withType("Docker")
+                .withNewDockerStrategy()
+                .withNewFrom().withKind("ImageStreamTag").withNamespace(fromProject).withName(fromTag).endFrom()
+                .endDockerStrategy()
+                .endStrategy()
+                .withNewOutput()
+                .withNewTo().withKind("ImageStreamTag").withNamespace(project).withName(IMAGE_STREAM + ":" + tag).endTo()
+                .addToImageLabels(new ImageLabel(DIGEST_ANNOTATION, tag))
+                .endOutput()
+                .endSpec()
+                .build();
+        fabric8.buildConfigs().inNamespace(client.project()).resource(buildConfig).createOr(NonDeletingOperation::update);
+
+        try (var phase = PhaseTimings.start(context, "build.openshift")) {
+            new Command("oc", "start-build", name, "--from-dir=" + folder.toAbsolutePath(), "--follow").runAndWait();
+        } catch (Exception e) {
+            fail("Failed when starting build " + name + ". Caused by " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tags the image built by S2I in the cache, like `oc tag`, so it's kept even after the build (or the project) is
+     * deleted. The tag is merged by name, so the scenarios caching other images at the same time are not overridden.
+     *
+     * @param image the pull spec of the image stream tag, `registry/project/name:tag`.
+     */
+    private void store(String image, String digest) {
+        try {
+            String imageStreamTag = StringUtils.substringAfterLast(image, "/");
+            ImageStreamTag built = fabric8.imageStreamTags().inNamespace(client.project()).withName(imageStreamTag).get();
+            String imageStreamImage = StringUtils.substringBefore(imageStreamTag, ":") + "@"
+                    + built.getImage().getMetadata().getName();
+            ImageStream tag = new ImageStreamBuilder()
+                    .withNewSpec()
+                    .addNewTag()
+                    .withName(digest)
+                    .withAnnotations(Map.of(DIGEST_ANNOTATION, digest))
+                    .withNewFrom()
+                    .withKind("ImageStreamImage").withNamespace(client.project()).withName(imageStreamImage)
+                    .endFrom()
+                    .endTag()
+                    .endSpec()
+                    .build();
+            fabric8.imageStreams().inNamespace(project).withName(IMAGE_STREAM)
+                    .patch(PatchContext.of(PatchType.STRATEGIC_MERGE), tag);
+        } catch (Exception e) {
+            Log.warn(context.getOwner(), "Image %s could not be cached. Caused by %s", image, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the image tagged with the digest, pulled from the cache image stream, so it doesn't depend on the project
+     *         where it was built.
+     */
+    private Optional<String> cachedImage(String tag) {
+        ImageStreamTag imageStreamTag = fabric8.imageStreamTags().inNamespace(project)
+                .withName(IMAGE_STREAM + ":" + tag).get();
+        if (imageStreamTag == null || imageStreamTag.getImage() == null) {
+            return Optional.empty();
+        }
+
+        String repository = fabric8.imageStreams().inNamespace(project).withName(IMAGE_STREAM).get()
+                .getStatus().getDockerImageRepository();
+        return Optional.of(repository + "@" + imageStreamTag.getImage().getMetadata().getName());
+    }
+
+    private void ensureImageStream() {
+        if (fabric8.imageStreams().inNamespace(project).withName(IMAGE_STREAM).get() == null) {
+            fabric8.imageStreams().inNamespace(project).resource(new ImageStreamBuilder()
+                    .withNewMetadata().withName(IMAGE_STREAM).endMetadata()
+                    .build()).createOr(NonDeletingOperation::update);
+        }
+    }
+
+    /**
+     * Same as `oc policy add-role-to-group system:image-puller` for the service accounts of the scenario project, and
+     * `oc policy add-role-to-user system:image-builder` for its builder, in the cache project.
+     */
+    private void grantAccess() {
+        try {
+            grant("ts-build-cache-pull-" + client.project(), "system:image-puller", new SubjectBuilder()
+                    .withKind("Group").withApiGroup(RBAC_API_GROUP).withName("system:serviceaccounts:" + client.project())
+                    .build());
+            grant("ts-build-cache-push-" + client.project(), "system:image-builder", new SubjectBuilder()
+                    .withKind("ServiceAccount").withNamespace(client.project()).withName("builder")
+                    .build());
+        } catch (Exception e) {
+            fail("Failed to grant access to the build cache in project " + project + ". Caused by " + e.getMessage());
+        }
+    }
+
+    private void grant(String name, String clusterRole, Subject subject) {
+        fabric8.rbac().roleBindings().inNamespace(project).resource(new RoleBindingBuilder()
+                .withNewMetadata().withName(name).endMetadata()
+                .withNewRoleRef().withApiGroup(RBAC_API_GROUP).withKind("ClusterRole").withName(clusterRole).endRoleRef()
+                .withSubjects(subject)
+                .build()).createOr(NonDeletingOperation::update);
+    }
+
+    static String digest(String builderImage, Path folder) {
+        try (Stream<Path> files = Files.walk(folder)) {
+            return digest(builderImage, files.filter(Files::isRegularFile).sorted().toList(), folder);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compute the digest of " + folder, e);
+        }
+    }
+
+    /**
+     * @return the SHA-256 of the builder image and of the relative path and content of every file.
+     */
+    static String digest(String builderImage, List<Path> files, Path folder) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        digest.update(builderImage.getBytes(StandardCharsets.UTF_8));
+        try (OutputStream content = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            for (Path file : files) {
+                digest.update((byte) 0);
+                digest.update(folder.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try (InputStream in = Files.newInputStream(file)) {
+                    in.transferTo(content);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to compute the digest of " + folder, e);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.Assertions;
@@ -33,6 +34,7 @@ import io.quarkus.test.bootstrap.ServiceContext;
 import io.quarkus.test.bootstrap.inject.OpenShiftClient;
 import io.quarkus.test.logging.LoggingHandler;
 import io.quarkus.test.logging.OpenShiftLoggingHandler;
+import io.quarkus.test.metrics.PhaseTimings;
 import io.quarkus.test.security.certificate.ServingCertificateConfig;
 import io.quarkus.test.services.URILike;
 
@@ -67,14 +69,18 @@ public abstract class OpenShiftQuarkusApplicationManagedResource<T extends Quark
             return;
         }
 
-        if (!init) {
-            doInit();
-            init = true;
-        } else {
-            doUpdate();
+        try (var phase = PhaseTimings.start(model.getContext(), "deploy.apply")) {
+            if (!init) {
+                doInit();
+                init = true;
+            } else {
+                doUpdate();
+            }
         }
 
-        client.scaleTo(model.getContext().getOwner(), 1);
+        try (var phase = PhaseTimings.start(model.getContext(), "deploy.scale-up")) {
+            client.scaleTo(model.getContext().getOwner(), 1);
+        }
 
         running = true;
 
@@ -166,6 +172,11 @@ public abstract class OpenShiftQuarkusApplicationManagedResource<T extends Quark
             return false;
         }
 
+        if (client.isNotReadyInCache(model.getContext().getName())) {
+            // no need to query the API or to request the route
+            return false;
+        }
+
         if (client.isServerlessService(model.getContext().getName())) {
             return routeIsReachable(Protocol.HTTPS);
         }
@@ -183,6 +194,11 @@ public abstract class OpenShiftQuarkusApplicationManagedResource<T extends Quark
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     @Override
     public void restart() {
         stop();
@@ -0,0 +1,129 @@
+package io.quarkus.test.bootstrap.inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.EventBuilder;
+import io.fabric8.openshift.api.model.BuildConfigBuilder;
+import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
+import io.fabric8.openshift.api.model.ImageStreamBuilder;
+import io.fabric8.openshift.api.model.Route;
+import io.fabric8.openshift.api.model.RouteBuilder;
+import io.fabric8.openshift.client.NamespacedOpenShiftClient;
+import io.fabric8.openshift.client.server.mock.EnableOpenShiftMockClient;
+import io.fabric8.openshift.client.server.mock.OpenShiftMockServer;
+
+@EnableOpenShiftMockClient(crud = true)
+public class OpenShiftApiOperationsTest {
+
+    private static final Map<String, String> SCENARIO = Map.of(OpenShiftClient.LABEL_SCENARIO_ID, "scenario");
+
+    io.fabric8.openshift.client.OpenShiftClient openShift;
+    OpenShiftMockServer server;
+
+    private NamespacedOpenShiftClient client;
+    private OpenShiftApiOperations api;
+
+    @BeforeEach
+    public void setup() {
+        client = openShift.adapt(NamespacedOpenShiftClient.class);
+        api = new OpenShiftApiOperations(client, client.getNamespace());
+    }
+
+    @Test
+    public void testCreateProject() {
+        OpenShiftApiOperations.createProject(client, "ts-project");
+
+        var request = server.getLastRequest();
+        assertEquals("POST", request.getMethod());
+        assertTrue(request.getPath().endsWith("/projectrequests"), request.getPath());
+        assertTrue(request.getBody().readUtf8().contains("\"name\":\"ts-project\""));
+    }
+
+    @Test
+    public void testExposeService() {
+        api.exposeService("app", "app-route", 8080, SCENARIO);
+
+        Route route = client.routes().withName("app-route").get();
+        assertEquals("Service", route.getSpec().getTo().getKind());
+        assertEquals("app", route.getSpec().getTo().getName());
+        assertEquals(8080, route.getSpec().getPort().getTargetPort().getIntVal());
+        assertEquals(SCENARIO, route.getMetadata().getLabels());
+        assertNull(route.getSpec().getTls());
+    }
+
+    @Test
+    public void testCreateTlsPassthroughRoute() {
+        api.createTlsPassthroughRoute("app", "app-tls", 8443);
+
+        Route route = client.routes().withName("app-tls").get();
+        assertEquals("app", route.getSpec().getTo().getName());
+        assertEquals(8443, route.getSpec().getPort().getTargetPort().getIntVal());
+        assertEquals("passthrough", route.getSpec().getTls().getTermination());
+    }
+
+    @Test
+    public void testGetEvents() {
+        client.v1().events().resource(new EventBuilder()
+                .withNewMetadata().withName("app.1").endMetadata()
+                .withType("Warning")
+                .withReason("BackOff")
+                .withMessage("Back-off restarting failed container")
+                .withNewInvolvedObject().withKind("Pod").withName("app-1").endInvolvedObject()
+                .build()).create();
+
+        String events = api.getEvents();
+
+        assertTrue(events.contains("Warning BackOff pod/app-1 Back-off restarting failed container"), events);
+    }
+
+    @Test
+    public void testDeleteAllWithLabel() {
+        client.deploymentConfigs().resource(new DeploymentConfigBuilder()
+                .withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata().build()).create();
+        client.buildConfigs().resource(new BuildConfigBuilder()
+                .withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata().build()).create();
+        client.imageStreams().resource(new ImageStreamBuilder()
+                .withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata().build()).create();
+        client.routes().resource(new RouteBuilder()
+                .withNewMetadata().withName("app").withLabels(SCENARIO).endMetadata().build()).create();
+        client.routes().resource(new RouteBuilder()
+                .withNewMetadata().withName("other").endMetadata().build()).create();
+
+        api.deleteAllWithLabel(OpenShiftClient.LABEL_SCENARIO_ID, "scenario");
+
+        assertNull(client.deploymentConfigs().withName("app").get());
+        assertNull(client.buildConfigs().withName("app").get());
+        assertNull(client.imageStreams().withName("app").get());
+        assertNull(client.routes().withName("app").get());
+        assertNotNull(client.routes().withName("other").get());
+    }
+
+    @Test
+    public void testDelete(@TempDir Path folder) throws IOException {
+        client.configMaps().resource(new ConfigMapBuilder()
+                .withNewMetadata().withName("app").endMetadata().addToData("key", "value").build()).create();
+        Path file = Files.writeString(folder.resolve("config.yml"), """
+                apiVersion: v1
+                kind: ConfigMap
+                metadata:
+                  name: app
+                """);
+
+        api.delete(file, client.getNamespace());
+
+        assertNull(client.configMaps().withName("app").get());
+    }
+}
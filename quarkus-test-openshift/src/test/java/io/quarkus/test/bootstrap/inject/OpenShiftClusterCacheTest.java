@@ -0,0 +1,80 @@
+package io.quarkus.test.bootstrap.inject;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.knative.client.KnativeClient;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.openshift.client.NamespacedOpenShiftClient;
+import io.fabric8.openshift.client.server.mock.EnableOpenShiftMockClient;
+
+@EnableOpenShiftMockClient(crud = true)
+public class OpenShiftClusterCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    io.fabric8.openshift.client.OpenShiftClient openShift;
+
+    private NamespacedOpenShiftClient client;
+    private OpenShiftClusterCache cache;
+
+    @BeforeEach
+    public void setup() {
+        client = openShift.adapt(NamespacedOpenShiftClient.class);
+        cache = OpenShiftClusterCache.start(client, openShift.adapt(KnativeClient.class), client.getNamespace())
+                .orElseThrow();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    public void testPodsAreIndexedByService() {
+        client.pods().resource(pod("app-1", OpenShiftClient.LABEL_TO_WATCH_FOR_LOGS, "app", false)).create();
+        client.pods().resource(pod("function-1", OpenShiftClient.KNATIVE_SERVICE_LABEL, "function", false)).create();
+
+        await().atMost(TIMEOUT).until(() -> cache.podsInService("app").size() == 1
+                && cache.podsInKnativeService("function").size() == 1);
+        assertEquals("app-1", cache.podsInService("app").get(0).getMetadata().getName());
+        assertEquals("function-1", cache.podsInKnativeService("function").get(0).getMetadata().getName());
+        assertTrue(cache.podsInService("function").isEmpty());
+    }
+
+    @Test
+    public void testPodReadinessIsUpdated() {
+        client.pods().resource(pod("app-1", OpenShiftClient.LABEL_TO_WATCH_FOR_LOGS, "app", false)).create();
+        await().atMost(TIMEOUT).until(() -> !cache.podsInService("app").isEmpty());
+        assertFalse(cache.isAnyPodReady("app"));
+
+        client.pods().resource(pod("app-1", OpenShiftClient.LABEL_TO_WATCH_FOR_LOGS, "app", true)).update();
+
+        await().atMost(TIMEOUT).until(() -> cache.isAnyPodReady("app"));
+    }
+
+    @Test
+    public void testUnknownServiceIsNotKnative() {
+        assertFalse(cache.isKnativeService("app"));
+        assertFalse(cache.isKnativeServiceReady("app"));
+    }
+
+    private static Pod pod(String name, String label, String service, boolean ready) {
+        return new PodBuilder()
+                .withNewMetadata().withName(name).addToLabels(label, service).endMetadata()
+                .withNewStatus()
+                .withPhase("Running")
+                .addNewCondition().withType("Ready").withStatus(ready ? "True" : "False").endCondition()
+                .endStatus()
+                .build();
+    }
+}
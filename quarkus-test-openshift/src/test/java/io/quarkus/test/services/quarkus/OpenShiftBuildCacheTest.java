@@ -0,0 +1,133 @@
+package io.quarkus.test.services.quarkus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import io.fabric8.openshift.api.model.ImageStreamBuilder;
+import io.fabric8.openshift.api.model.ImageStreamTagBuilder;
+import io.fabric8.openshift.api.model.TagReference;
+import io.fabric8.openshift.client.server.mock.EnableOpenShiftMockClient;
+import io.quarkus.test.bootstrap.Service;
+import io.quarkus.test.bootstrap.ServiceContext;
+import io.quarkus.test.bootstrap.inject.OpenShiftClient;
+
+@EnableOpenShiftMockClient(crud = true)
+public class OpenShiftBuildCacheTest {
+
+    private static final String BUILDER = "registry.access.redhat.com/ubi8/openjdk-17:latest";
+    private static final String SCENARIO_PROJECT = "scenario";
+    private static final String CACHE_PROJECT = "cache";
+    private static final String BUILT_IMAGE = "registry/scenario/app:0.0.1-SNAPSHOT";
+
+    io.fabric8.openshift.client.OpenShiftClient openShift;
+
+    @TempDir
+    Path folder;
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private ServiceContext context;
+    private OpenShiftClient client;
+    private Path artifact;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        context = Mockito.mock(ServiceContext.class);
+        Mockito.when(context.getOwner()).thenReturn(Mockito.mock(Service.class));
+        Mockito.when(context.getName()).thenReturn("app");
+        Mockito.when(context.getServiceFolder()).thenReturn(folder);
+        client = Mockito.mock(OpenShiftClient.class);
+        Mockito.when(client.getFabric8Client()).thenReturn(openShift);
+        Mockito.when(client.project()).thenReturn(SCENARIO_PROJECT);
+        Mockito.when(client.getScenarioId()).thenReturn("scenario-id");
+
+        Path quarkusApp = folder.resolve("quarkus-app");
+        Files.createDirectories(quarkusApp.resolve("lib"));
+        Files.writeString(quarkusApp.resolve("lib/dependency.jar"), "dependency");
+        artifact = Files.writeString(quarkusApp.resolve("quarkus-run.jar"), "app");
+    }
+
+    @Test
+    public void testDigestDependsOnContentAndBuilder() throws IOException {
+        Path quarkusApp = artifact.getParent();
+        String digest = OpenShiftBuildCache.digest(BUILDER, quarkusApp);
+
+        assertEquals(digest, OpenShiftBuildCache.digest(BUILDER, quarkusApp));
+        assertNotEquals(digest, OpenShiftBuildCache.digest("other-builder", quarkusApp));
+
+        Files.writeString(artifact, "changed");
+        assertNotEquals(digest, OpenShiftBuildCache.digest(BUILDER, quarkusApp));
+    }
+
+    @Test
+    public void testBuildIsSkippedWhenTheArtifactWasCached() {
+        String digest = OpenShiftBuildCache.digest(BUILDER, artifact.getParent());
+        createCacheImageStream(CACHE_PROJECT);
+        openShift.imageStreamTags().inNamespace(CACHE_PROJECT).resource(new ImageStreamTagBuilder()
+                .withNewMetadata().withName(OpenShiftBuildCache.IMAGE_STREAM + ":" + digest).endMetadata()
+                .withNewImage().withNewMetadata().withName("sha256:cached").endMetadata().endImage()
+                .build()).create();
+
+        String image = cache(CACHE_PROJECT).imageFor(artifact, false, BUILDER, "image-builder:latest", this::build);
+
+        assertEquals("registry/cache/ts-build-cache@sha256:cached", image);
+        assertEquals(0, builds.get());
+        // the scenario project must be able to pull the reused image
+        assertNotNull(openShift.rbac().roleBindings().inNamespace(CACHE_PROJECT)
+                .withName("ts-build-cache-pull-" + SCENARIO_PROJECT).get());
+    }
+
+    @Test
+    public void testBuiltImageIsCached() {
+        String digest = OpenShiftBuildCache.digest(BUILDER, artifact.getParent());
+        openShift.imageStreamTags().inNamespace(SCENARIO_PROJECT).resource(new ImageStreamTagBuilder()
+                .withNewMetadata().withName("app:0.0.1-SNAPSHOT").endMetadata()
+                .withNewImage().withNewMetadata().withName("sha256:built").endMetadata().endImage()
+                .build()).create();
+
+        String image = cache(SCENARIO_PROJECT).imageFor(artifact, false, BUILDER, "image-builder:latest", this::build);
+
+        assertEquals(BUILT_IMAGE, image);
+        assertEquals(1, builds.get());
+        TagReference tag = openShift.imageStreams().inNamespace(SCENARIO_PROJECT)
+                .withName(OpenShiftBuildCache.IMAGE_STREAM).get().getSpec().getTags().stream()
+                .filter(reference -> digest.equals(reference.getName()))
+                .findFirst().orElseThrow();
+        assertEquals(Map.of(OpenShiftBuildCache.DIGEST_ANNOTATION, digest), tag.getAnnotations());
+        assertEquals("ImageStreamImage", tag.getFrom().getKind());
+        assertEquals("app@sha256:built", tag.getFrom().getName());
+        assertTrue(openShift.rbac().roleBindings().inNamespace(SCENARIO_PROJECT).list().getItems().isEmpty(),
+                "No access is granted when the cache is in the scenario project");
+    }
+
+    private OpenShiftBuildCache cache(String project) {
+        return new OpenShiftBuildCache(context, client, project, false);
+    }
+
+    private String build() {
+        builds.incrementAndGet();
+        return BUILT_IMAGE;
+    }
+
+    private void createCacheImageStream(String project) {
+        openShift.imageStreams().inNamespace(project).resource(new ImageStreamBuilder()
+                .withNewMetadata().withName(OpenShiftBuildCache.IMAGE_STREAM).endMetadata()
+                .build()).create();
+        openShift.imageStreams().inNamespace(project).withName(OpenShiftBuildCache.IMAGE_STREAM)
+                .editStatus(imageStream -> new ImageStreamBuilder(imageStream)
+                        .withNewStatus().withDockerImageRepository("registry/" + project + "/ts-build-cache").endStatus()
+                        .build());
+    }
+}
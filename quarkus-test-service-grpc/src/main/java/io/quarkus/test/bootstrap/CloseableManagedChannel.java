@@ -11,9 +11,22 @@ import io.grpc.MethodDescriptor;
 public final class CloseableManagedChannel extends ManagedChannel implements Closeable {
 
     private final ManagedChannel channel;
+    private final boolean shared;
 
     public CloseableManagedChannel(ManagedChannel channel) {
+        this(channel, false);
+    }
+
+    private CloseableManagedChannel(ManagedChannel channel, boolean shared) {
         this.channel = channel;
+        this.shared = shared;
+    }
+
+    /**
+     * @return a channel that is not shut down when closed, because it's shared and shut down by its owner.
+     */
+    static CloseableManagedChannel shared(ManagedChannel channel) {
+        return new CloseableManagedChannel(channel, true);
     }
 
     @Override
@@ -54,6 +67,8 @@ public final class CloseableManagedChannel extends ManagedChannel implements Clo
 
     @Override
     public void close() {
-        channel.shutdownNow();
+        if (!shared) {
+            channel.shutdownNow();
+        }
     }
 }
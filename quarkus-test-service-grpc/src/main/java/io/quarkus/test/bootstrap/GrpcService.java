@@ -4,13 +4,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLException;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 
+import io.grpc.ManagedChannel;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NettyChannelBuilder;
 import io.netty.handler.ssl.ClientAuth;
@@ -23,10 +27,14 @@ import io.quarkus.test.services.quarkus.model.QuarkusProperties;
 
 public class GrpcService extends RestService {
 
+    /**
+     * Returns a channel cached per scenario by the target. It is shut down once the scenario finishes, and closing it
+     * does nothing, so it can be used in a try-with-resources block.
+     */
     public CloseableManagedChannel grpcChannel() {
-        var nettyChannel = NettyChannelBuilder.forAddress(getGrpcHost().getHost(), getGrpcHost().getPort()).usePlaintext()
-                .build();
-        return new CloseableManagedChannel(nettyChannel);
+        var grpcHost = getGrpcHost();
+        return sharedChannel(Arrays.asList(ManagedChannel.class, grpcHost.toString()),
+                () -> NettyChannelBuilder.forAddress(grpcHost.getHost(), grpcHost.getPort()).usePlaintext().build());
     }
 
     public CloseableManagedChannel securedGrpcChannel() {
@@ -38,11 +46,40 @@ public class GrpcService extends RestService {
             throw new IllegalStateException("TLS is not currently supported for a separate gRPC server");
         }
         var httpsUri = getURI(Protocol.HTTPS);
-        var nettyChannel = NettyChannelBuilder.forAddress(httpsUri.getHost(), httpsUri.getPort())
-                .sslContext(createSslContext(clientCnName))
-                .useTransportSecurity()
-                .build();
-        return new CloseableManagedChannel(nettyChannel);
+        List<Object> sslContextKey = sslContextKey(clientCnName);
+        return sharedChannel(Arrays.asList(ManagedChannel.class, httpsUri.toString(), sslContextKey),
+                () -> NettyChannelBuilder.forAddress(httpsUri.getHost(), httpsUri.getPort())
+                        .sslContext(sslContext(sslContextKey, clientCnName))
+                        .useTransportSecurity()
+                        .build());
+    }
+
+    private CloseableManagedChannel sharedChannel(List<Object> key, Supplier<ManagedChannel> factory) {
+        ScenarioClients clients = context.getScenarioContext().getClients();
+        ManagedChannel channel = clients.getOrCreate(key, factory, ManagedChannel::shutdownNow);
+        if (channel.isShutdown()) {
+            // shut down by a test
+            clients.invalidate(key);
+            channel = clients.getOrCreate(key, factory, ManagedChannel::shutdownNow);
+        }
+
+        return CloseableManagedChannel.shared(channel);
+    }
+
+    /**
+     * @return the key of the SSL context, which is built from the certificates of this service.
+     */
+    private List<Object> sslContextKey(String clientCnName) {
+        CertificateBuilder certBuilder = getPropertyFromContext(CertificateBuilder.INSTANCE_KEY);
+        List<List<Object>> certificates = certBuilder == null ? List.of()
+                : certBuilder.certificates().stream().map(ScenarioClients::certificateKey).toList();
+        return Arrays.asList(SslContext.class, getName(), certificates, clientCnName);
+    }
+
+    private SslContext sslContext(List<Object> key, String clientCnName) {
+        return context.getScenarioContext().getClients().getOrCreate(key, () -> createSslContext(clientCnName),
+                sslContext -> {
+                });
     }
 
     private SslContext createSslContext(String clientCnName) {
@@ -4,6 +4,7 @@ import static io.quarkus.test.configuration.Configuration.Property.KAFKA_REGISTR
 import static java.util.regex.Pattern.quote;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
@@ -96,6 +97,11 @@ public class OpenShiftStrimziKafkaContainerManagedResource implements ManagedRes
         return loggingHandler.logs();
     }
 
+    @Override
+    public Stream<String> streamLogs() {
+        return loggingHandler.streamLogs();
+    }
+
     @Override
     public void restart() {
         stop();